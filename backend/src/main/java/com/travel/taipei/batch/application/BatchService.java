@@ -0,0 +1,193 @@
+package com.travel.taipei.batch.application;
+
+import com.travel.taipei.batch.interfaces.dto.BatchItem;
+import com.travel.taipei.batch.interfaces.dto.BatchResult;
+import com.travel.taipei.exchange.application.ExchangeService;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.phrase.application.PhraseService;
+import com.travel.taipei.spot.application.SpotService;
+import com.travel.taipei.weather.application.WeatherService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchService {
+
+    private static final DateTimeFormatter OPEN_AT_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final WeatherService weatherService;
+    private final ExchangeService exchangeService;
+    private final SpotService spotService;
+    private final PhraseService phraseService;
+
+    @Value("${batch.max-items:50}")
+    private int maxItems;
+
+    @Value("${batch.max-concurrency:8}")
+    private int maxConcurrency;
+
+    // 최대 maxConcurrency개 동시 실행, 끝나는 순서대로 반환
+    public Flux<BatchResult> execute(List<BatchItem> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        if (items.size() > maxItems) {
+            throw new BusinessException(ErrorCode.BATCH_TOO_LARGE);
+        }
+
+        Map<String, Route> routes = new LinkedHashMap<>();
+        Map<String, List<String>> idsByKey = new LinkedHashMap<>();
+        List<BatchResult> rejected = new ArrayList<>();
+        for (BatchItem item : items) {
+            try {
+                Route route = route(item.path());
+                routes.putIfAbsent(route.key(), route);
+                idsByKey.computeIfAbsent(route.key(), key -> new ArrayList<>()).add(item.id());
+            } catch (BusinessException e) {
+                rejected.add(BatchResult.fail(item.id(), e.getErrorCode()));
+            }
+        }
+
+        Flux<BatchResult> executed = Flux.fromIterable(routes.values())
+                .flatMap(route -> run(route, idsByKey.get(route.key())), maxConcurrency)
+                .flatMapIterable(results -> results);
+        return Flux.fromIterable(rejected).concatWith(executed);
+    }
+
+    private Mono<List<BatchResult>> run(Route route, List<String> ids) {
+        return Mono.defer(route.call())
+                .<List<BatchResult>>map(value -> ids.stream().map(id -> BatchResult.ok(id, value)).toList())
+                .defaultIfEmpty(ids.stream().map(id -> BatchResult.ok(id, null)).toList())
+                .onErrorResume(e -> Mono.just(ids.stream().map(id -> failure(id, route, e)).toList()));
+    }
+
+    private BatchResult failure(String id, Route route, Throwable e) {
+        if (e instanceof BusinessException businessException) {
+            return BatchResult.fail(id, businessException.getErrorCode());
+        }
+        log.warn("[BatchService] 하위 요청 처리 실패 key={}", route.key(), e);
+        return BatchResult.fail(id, 500, "서버 오류가 발생했습니다.");
+    }
+
+    private Route route(String path) {
+        if (path == null || path.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+
+        UriComponents uri = UriComponentsBuilder.fromUriString(path).build();
+        List<String> segments = uri.getPathSegments().stream()
+                .map(segment -> UriUtils.decode(segment, StandardCharsets.UTF_8))
+                .toList();
+        if (segments.size() < 2 || segments.size() > 3 || !"api".equals(segments.get(0))) {
+            throw new BusinessException(ErrorCode.BATCH_ROUTE_NOT_FOUND);
+        }
+
+        Map<String, String> params = new TreeMap<>();
+        MultiValueMap<String, String> query = uri.getQueryParams();
+        query.forEach((name, values) -> {
+            String value = values.isEmpty() || values.get(0) == null ? "" : values.get(0);
+            params.put(UriUtils.decode(name, StandardCharsets.UTF_8), UriUtils.decode(value, StandardCharsets.UTF_8));
+        });
+        String key = String.join("/", segments) + params;
+        String resource = segments.get(1);
+        String sub = segments.size() == 3 ? segments.get(2) : null;
+
+        return switch (resource) {
+            case "weather" -> {
+                if (sub == null) {
+                    yield new Route(key, weatherService::getWeatherAsync);
+                }
+                if ("forecast".equals(sub)) {
+                    yield new Route(key, weatherService::getForecastAsync);
+                }
+                throw new BusinessException(ErrorCode.BATCH_ROUTE_NOT_FOUND);
+            }
+            case "exchange-rates" -> {
+                if (sub != null) {
+                    throw new BusinessException(ErrorCode.BATCH_ROUTE_NOT_FOUND);
+                }
+                yield new Route(key, exchangeService::getExchangeRateAsync);
+            }
+            case "spots" -> {
+                if (sub == null) {
+                    yield spotsRoute(key, params);
+                }
+                // 스트리밍 엔드포인트는 배치에 담을 수 없음
+                if ("stream".equals(sub)) {
+                    throw new BusinessException(ErrorCode.BATCH_ROUTE_NOT_FOUND);
+                }
+                yield new Route(key, () -> spotService.getSpotDetailAsync(sub, params.getOrDefault("type", "restaurant")));
+            }
+            case "phrases" -> new Route(key, () -> Mono.fromCallable(() -> sub == null
+                            ? phraseService.findAll()
+                            : phraseService.findByCategory(sub))
+                    .subscribeOn(Schedulers.boundedElastic()));
+            default -> throw new BusinessException(ErrorCode.BATCH_ROUTE_NOT_FOUND);
+        };
+    }
+
+    private Route spotsRoute(String key, Map<String, String> params) {
+        String type = params.get("type");
+        if (type == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        Double lat = doubleParam(params, "lat");
+        Double lng = doubleParam(params, "lng");
+        Double rawRadius = doubleParam(params, "radius");
+        Integer radius = rawRadius != null ? rawRadius.intValue() : 5000;
+        boolean openNow = Boolean.parseBoolean(params.getOrDefault("openNow", "false"));
+        Double minRating = doubleParam(params, "minRating");
+        LocalTime openAt = timeParam(params, "openAt");
+        return new Route(key, () -> spotService.getSpotsAsync(type, lat, lng, radius, openNow, minRating, openAt));
+    }
+
+    private LocalTime timeParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalTime.parse(value, OPEN_AT_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    private Double doubleParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    private record Route(String key, Supplier<? extends Mono<?>> call) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.travel.taipei.batch.interfaces;
+
+import com.travel.taipei.batch.application.BatchService;
+import com.travel.taipei.batch.interfaces.dto.BatchRequest;
+import com.travel.taipei.batch.interfaces.dto.BatchResult;
+import com.travel.taipei.global.client.CallContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+// Accept: application/x-ndjson이면 끝나는 순서대로 스트리밍
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchService batchService;
+
+    @PostMapping
+    public Flux<BatchResult> execute(@RequestBody BatchRequest request) {
+        return batchService.execute(request.requests())
+                .contextWrite(CallContext.capture());
+    }
+}
@@ -0,0 +1,7 @@
+package com.travel.taipei.batch.interfaces.dto;
+
+// 예) /api/spots?type=cafe&lat=25.04&lng=121.56
+public record BatchItem(
+        String id,
+        String path
+) {}
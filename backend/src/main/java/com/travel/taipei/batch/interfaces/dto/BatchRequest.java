@@ -0,0 +1,7 @@
+package com.travel.taipei.batch.interfaces.dto;
+
+import java.util.List;
+
+public record BatchRequest(
+        List<BatchItem> requests
+) {}
@@ -0,0 +1,23 @@
+package com.travel.taipei.batch.interfaces.dto;
+
+import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.global.response.ApiResponse;
+
+// 단독 호출 시의 HTTP 상태 코드
+public record BatchResult(
+        String id,
+        int status,
+        ApiResponse<?> body
+) {
+    public static BatchResult ok(String id, Object data) {
+        return new BatchResult(id, 200, ApiResponse.ok(data));
+    }
+
+    public static BatchResult fail(String id, ErrorCode errorCode) {
+        return new BatchResult(id, errorCode.getStatus().value(), ApiResponse.fail(errorCode.getMessage()));
+    }
+
+    public static BatchResult fail(String id, int status, String message) {
+        return new BatchResult(id, status, ApiResponse.fail(message));
+    }
+}
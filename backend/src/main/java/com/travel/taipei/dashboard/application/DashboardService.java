@@ -0,0 +1,76 @@
+package com.travel.taipei.dashboard.application;
+
+import com.travel.taipei.dashboard.interfaces.dto.DashboardResponse;
+import com.travel.taipei.exchange.application.ExchangeService;
+import com.travel.taipei.global.client.FanOut;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.response.ApiResponse;
+import com.travel.taipei.phrase.application.PhraseService;
+import com.travel.taipei.spot.application.SpotService;
+import com.travel.taipei.weather.application.WeatherService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private final WeatherService weatherService;
+    private final ExchangeService exchangeService;
+    private final SpotService spotService;
+    private final PhraseService phraseService;
+
+    @Value("${dashboard.deadline-ms:4000}")
+    private long deadlineMs;
+
+    // 섹션별 동시 조회, 실패한 섹션만 실패로 표시
+    public DashboardResponse getDashboard(
+            String spotType,
+            Double lat,
+            Double lng,
+            Integer radius,
+            boolean openNow,
+            Double minRating,
+            String phraseCategory
+    ) {
+        List<Callable<Object>> sections = List.of(
+                weatherService::getWeather,
+                weatherService::getForecast,
+                exchangeService::getExchangeRate,
+                () -> spotService.getSpots(spotType, lat, lng, radius, openNow, minRating),
+                () -> phraseCategory == null || phraseCategory.isBlank()
+                        ? phraseService.findAll()
+                        : phraseService.findByCategory(phraseCategory)
+        );
+        List<Future<Object>> results = FanOut.forkAll(sections, Duration.ofMillis(deadlineMs));
+
+        return new DashboardResponse(
+                section("weather", results.get(0)),
+                section("forecast", results.get(1)),
+                section("exchangeRate", results.get(2)),
+                section("spots", results.get(3)),
+                section("phrases", results.get(4))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ApiResponse<T> section(String name, Future<Object> result) {
+        try {
+            return ApiResponse.ok((T) FanOut.join(result));
+        } catch (BusinessException e) {
+            log.warn("[DashboardService] 섹션 조회 실패 section={}, code={}", name, e.getErrorCode().getCode());
+            return ApiResponse.fail(e.getErrorCode().getMessage());
+        } catch (RuntimeException e) {
+            log.warn("[DashboardService] 섹션 조회 실패 section={}", name, e);
+            return ApiResponse.fail("서버 오류가 발생했습니다.");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.travel.taipei.dashboard.interfaces;
+
+import com.travel.taipei.dashboard.application.DashboardService;
+import com.travel.taipei.dashboard.interfaces.dto.DashboardResponse;
+import com.travel.taipei.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    public ApiResponse<DashboardResponse> getDashboard(
+            @RequestParam(defaultValue = "attraction") String type,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(defaultValue = "5000") Integer radius,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) String phraseCategory
+    ) {
+        return ApiResponse.ok(dashboardService.getDashboard(type, lat, lng, radius, openNow, minRating, phraseCategory));
+    }
+}
@@ -0,0 +1,18 @@
+package com.travel.taipei.dashboard.interfaces.dto;
+
+import com.travel.taipei.exchange.interfaces.dto.ExchangeRateResponse;
+import com.travel.taipei.global.response.ApiResponse;
+import com.travel.taipei.phrase.interfaces.dto.PhraseResponse;
+import com.travel.taipei.spot.interfaces.dto.SpotResponse;
+import com.travel.taipei.weather.interfaces.dto.WeatherForecastItem;
+import com.travel.taipei.weather.interfaces.dto.WeatherResponse;
+
+import java.util.List;
+
+public record DashboardResponse(
+        ApiResponse<WeatherResponse> weather,
+        ApiResponse<List<WeatherForecastItem>> forecast,
+        ApiResponse<ExchangeRateResponse> exchangeRate,
+        ApiResponse<List<SpotResponse>> spots,
+        ApiResponse<List<PhraseResponse>> phrases
+) {}
@@ -1,8 +1,8 @@
 package com.travel.taipei.exchange.application;
 
+import com.travel.taipei.global.client.CallPriority;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -12,18 +12,17 @@ import org.springframework.stereotype.Component;
 public class ExchangeScheduler {
 
     private final ExchangeService exchangeService;
-    private final CacheManager cacheManager;
 
     // 한국수출입은행 환율 API는 평일 오전 11시경 업데이트
     // 매 평일 11:30 KST에 캐시를 갱신하여 하루 1회 API 호출로 제한
     @Scheduled(cron = "0 30 11 * * MON-FRI", zone = "Asia/Seoul")
     public void refreshExchangeRate() {
         log.info("[ExchangeScheduler] 환율 캐시 갱신 시작");
-        var cache = cacheManager.getCache("exchange-rates");
-        if (cache != null) {
-            cache.evict("TWD");
+        try {
+            CallPriority.runInBackground(exchangeService::refreshExchangeRate);
+            log.info("[ExchangeScheduler] 환율 캐시 갱신 완료");
+        } catch (RuntimeException e) {
+            log.warn("[ExchangeScheduler] 환율 캐시 갱신 실패, 기존 환율을 유지합니다.", e);
         }
-        exchangeService.getExchangeRate();
-        log.info("[ExchangeScheduler] 환율 캐시 갱신 완료");
     }
 }
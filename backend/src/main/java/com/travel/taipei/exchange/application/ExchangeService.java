@@ -2,59 +2,52 @@ package com.travel.taipei.exchange.application;
 
 import com.travel.taipei.exchange.infrastructure.ExchangeApiClient;
 import com.travel.taipei.exchange.interfaces.dto.ExchangeRateResponse;
+import com.travel.taipei.global.cache.CacheLoading;
 import com.travel.taipei.global.exception.BusinessException;
 import com.travel.taipei.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
 public class ExchangeService {
 
     private static final String CACHE_NAME = "exchange-rates";
-    private static final String BACKUP_CACHE_NAME = "exchange-rates-backup";
     private static final String CACHE_KEY = "TWD";
 
     private final ExchangeApiClient exchangeApiClient;
     private final CacheManager cacheManager;
 
     public ExchangeRateResponse getExchangeRate() {
-        Cache cache = cacheManager.getCache(CACHE_NAME);
-        ExchangeRateResponse cached = getCached(cache, CACHE_KEY, ExchangeRateResponse.class);
-        if (cached != null) {
-            return cached;
-        }
-
-        try {
-            ExchangeRateResponse response = exchangeApiClient.fetchTwdRate();
-            if (response == null) {
-                throw new BusinessException(ErrorCode.EXCHANGE_DATA_NOT_FOUND);
-            }
-            putCache(cache, CACHE_KEY, response);
-            putCache(cacheManager.getCache(BACKUP_CACHE_NAME), CACHE_KEY, response);
-            return response;
-        } catch (BusinessException e) {
-            ExchangeRateResponse backup = getCached(
-                    cacheManager.getCache(BACKUP_CACHE_NAME),
-                    CACHE_KEY,
-                    ExchangeRateResponse.class
-            );
-            if (backup != null) {
-                return backup;
-            }
-            throw e;
-        }
+        return CacheLoading.getOrLoad(cacheManager.getCache(CACHE_NAME), CACHE_KEY, this::fetchExchangeRate);
     }
 
-    private <T> T getCached(Cache cache, String key, Class<T> targetType) {
-        return cache != null ? cache.get(key, targetType) : null;
+    public Mono<ExchangeRateResponse> getExchangeRateAsync() {
+        return CacheLoading.getOrLoadAsync(
+                cacheManager.getCache(CACHE_NAME),
+                CACHE_KEY,
+                () -> exchangeApiClient.fetchTwdRateAsync()
+                        .switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.EXCHANGE_DATA_NOT_FOUND)))
+        );
     }
 
-    private void putCache(Cache cache, String key, Object value) {
+    // 조회에 성공했을 때만 캐시를 덮어씀
+    public void refreshExchangeRate() {
+        ExchangeRateResponse response = fetchExchangeRate();
+        Cache cache = cacheManager.getCache(CACHE_NAME);
         if (cache != null) {
-            cache.put(key, value);
+            cache.put(CACHE_KEY, response);
+        }
+    }
+
+    private ExchangeRateResponse fetchExchangeRate() {
+        ExchangeRateResponse response = exchangeApiClient.fetchTwdRate();
+        if (response == null) {
+            throw new BusinessException(ErrorCode.EXCHANGE_DATA_NOT_FOUND);
         }
+        return response;
     }
 }
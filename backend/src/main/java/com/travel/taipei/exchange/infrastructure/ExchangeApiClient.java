@@ -3,6 +3,9 @@ package com.travel.taipei.exchange.infrastructure;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.travel.taipei.exchange.interfaces.dto.ExchangeRateResponse;
+import com.travel.taipei.global.client.FanOut;
+import com.travel.taipei.global.client.Upstream;
+import com.travel.taipei.global.client.UpstreamClient;
 import com.travel.taipei.global.exception.BusinessException;
 import com.travel.taipei.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -10,23 +13,24 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 @Component
 @RequiredArgsConstructor
 public class ExchangeApiClient {
 
     private final WebClient webClient;
+    private final UpstreamClient upstreamClient;
 
     @Value("${external.exchange.api-key}")
     private String apiKey;
@@ -37,45 +41,55 @@ public class ExchangeApiClient {
     @Value("${external.exchange.fallback-url:https://open.er-api.com/v6/latest/KRW}")
     private String fallbackApiUrl;
 
+    @Value("${external.exchange.fan-out-deadline-ms:8000}")
+    private long fanOutDeadlineMs;
+
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final String TARGET_CURRENCY = "TWD";
-    private static final Retry RETRY_SPEC = Retry.backoff(2, Duration.ofMillis(300))
-            .maxBackoff(Duration.ofSeconds(2))
-            .filter(ExchangeApiClient::isRetryableError);
+    private static final int LOOKBACK_DAYS = 4;
 
+    // 최근 3일 동시 조회, 모두 비면 대체 API
     public ExchangeRateResponse fetchTwdRate() {
-        for (int daysBack = 0; daysBack <= 3; daysBack++) {
-            LocalDate targetDate = LocalDate.now().minusDays(daysBack);
-            String date = targetDate.format(DATE_FORMAT);
-            List<ApiItem> items = callApi(date);
-
-            ExchangeRateResponse response = items.stream()
-                    .filter(item -> TARGET_CURRENCY.equals(item.curUnit()) && item.result() == 1)
-                    .findFirst()
-                    .map(item -> mapToResponse(item, targetDate.toString()))
-                    .orElse(null);
+        LocalDate today = LocalDate.now();
+        List<Callable<ExchangeRateResponse>> lookups = IntStream.range(0, LOOKBACK_DAYS)
+                .<Callable<ExchangeRateResponse>>mapToObj(daysBack -> () -> findTwdRate(today.minusDays(daysBack)).block())
+                .toList();
+
+        for (Future<ExchangeRateResponse> lookup : FanOut.forkAll(lookups, Duration.ofMillis(fanOutDeadlineMs))) {
+            ExchangeRateResponse response = FanOut.join(lookup);
             if (response != null) {
                 return response;
             }
         }
+        return callFallbackApi().block();
+    }
 
-        return callFallbackApi();
+    public Mono<ExchangeRateResponse> fetchTwdRateAsync() {
+        LocalDate today = LocalDate.now();
+        return Flux.range(0, LOOKBACK_DAYS)
+                .flatMapSequential(daysBack -> findTwdRate(today.minusDays(daysBack)), LOOKBACK_DAYS)
+                .next()
+                .switchIfEmpty(Mono.defer(this::callFallbackApi));
     }
 
-    private List<ApiItem> callApi(String date) {
-        List<ApiItem> items = webClient.get()
-                .uri(apiUrl + "?authkey={key}&searchdate={date}&data=AP01", apiKey, date)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, response ->
-                        response.createException().flatMap(Mono::error))
-                .bodyToFlux(ApiItem.class)
-                .collectList()
-                .retryWhen(RETRY_SPEC)
-                .onErrorMap(BusinessException.class, e -> e)
-                .onErrorMap(e -> !(e instanceof BusinessException), e -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR))
-                .block();
-
-        return items != null ? items : List.of();
+    private Mono<ExchangeRateResponse> findTwdRate(LocalDate targetDate) {
+        return callApi(targetDate.format(DATE_FORMAT))
+                .mapNotNull(items -> items.stream()
+                        .filter(item -> TARGET_CURRENCY.equals(item.curUnit()) && item.result() == 1)
+                        .findFirst()
+                        .map(item -> mapToResponse(item, targetDate.toString()))
+                        .orElse(null));
+    }
+
+    private Mono<List<ApiItem>> callApi(String date) {
+        return upstreamClient.exchange(Upstream.KOREAEXIM, "exchangeJSON", webClient.get()
+                        .uri(apiUrl + "?authkey={key}&searchdate={date}&data=AP01", apiKey, date)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, response ->
+                                response.createException().flatMap(Mono::error))
+                        .bodyToFlux(ApiItem.class)
+                        .collectList())
+                .defaultIfEmpty(List.of());
     }
 
     private ExchangeRateResponse mapToResponse(ApiItem item, String date) {
@@ -93,19 +107,19 @@ public class ExchangeApiClient {
         return Double.parseDouble(value.replace(",", ""));
     }
 
-    private ExchangeRateResponse callFallbackApi() {
-        FallbackApiResponse response = webClient.get()
-                .uri(fallbackApiUrl)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, res ->
-                        res.createException().flatMap(Mono::error))
-                .bodyToMono(FallbackApiResponse.class)
-                .retryWhen(RETRY_SPEC)
-                .onErrorMap(BusinessException.class, e -> e)
-                .onErrorMap(e -> !(e instanceof BusinessException), e -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR))
-                .block();
-
-        if (response == null || response.rates() == null) {
+    private Mono<ExchangeRateResponse> callFallbackApi() {
+        return upstreamClient.exchange(Upstream.EXCHANGE_FALLBACK, "latest", webClient.get()
+                        .uri(fallbackApiUrl)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, res ->
+                                res.createException().flatMap(Mono::error))
+                        .bodyToMono(FallbackApiResponse.class))
+                .switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.EXCHANGE_DATA_NOT_FOUND)))
+                .map(this::mapFallbackResponse);
+    }
+
+    private ExchangeRateResponse mapFallbackResponse(FallbackApiResponse response) {
+        if (response.rates() == null) {
             throw new BusinessException(ErrorCode.EXCHANGE_DATA_NOT_FOUND);
         }
 
@@ -128,16 +142,6 @@ public class ExchangeApiClient {
         return Math.round(value * 100.0) / 100.0;
     }
 
-    private static boolean isRetryableError(Throwable throwable) {
-        if (throwable instanceof WebClientResponseException responseException) {
-            return responseException.getStatusCode().value() == 429
-                    || responseException.getStatusCode().is5xxServerError();
-        }
-
-        return throwable instanceof WebClientRequestException
-                || throwable instanceof TimeoutException;
-    }
-
     @JsonIgnoreProperties(ignoreUnknown = true)
     private record ApiItem(
             @JsonProperty("result") Integer result,
@@ -4,11 +4,13 @@ import com.travel.taipei.exchange.application.ExchangeService;
 import com.travel.taipei.exchange.interfaces.dto.ExchangeRateResponse;
 import com.travel.taipei.global.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@ConditionalOnProperty(name = "serving.mode", havingValue = "blocking", matchIfMissing = true)
 @RequestMapping("/api/exchange-rates")
 @RequiredArgsConstructor
 public class ExchangeController {
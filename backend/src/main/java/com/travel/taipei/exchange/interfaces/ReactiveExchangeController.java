@@ -0,0 +1,28 @@
+package com.travel.taipei.exchange.interfaces;
+
+import com.travel.taipei.exchange.application.ExchangeService;
+import com.travel.taipei.exchange.interfaces.dto.ExchangeRateResponse;
+import com.travel.taipei.global.client.CallContext;
+import com.travel.taipei.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnProperty(name = "serving.mode", havingValue = "reactive")
+@RequestMapping("/api/exchange-rates")
+@RequiredArgsConstructor
+public class ReactiveExchangeController {
+
+    private final ExchangeService exchangeService;
+
+    @GetMapping
+    public Mono<ApiResponse<ExchangeRateResponse>> getExchangeRate() {
+        return exchangeService.getExchangeRateAsync()
+                .map(ApiResponse::ok)
+                .contextWrite(CallContext.capture());
+    }
+}
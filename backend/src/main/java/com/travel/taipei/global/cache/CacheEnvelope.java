@@ -0,0 +1,36 @@
+package com.travel.taipei.global.cache;
+
+import java.time.Duration;
+
+// 캐시 값과 soft/hard 만료 시각, 계산 시간
+public record CacheEnvelope<T>(
+        T value,
+        long writtenAt,
+        long softExpireAt,
+        long hardExpireAt,
+        long computeMillis
+) {
+    public static <T> CacheEnvelope<T> of(T value, long now, Duration softTtl, Duration hardTtl) {
+        return of(value, now, softTtl, hardTtl, 0L);
+    }
+
+    public static <T> CacheEnvelope<T> of(T value, long now, Duration softTtl, Duration hardTtl, long computeMillis) {
+        return new CacheEnvelope<>(value, now, now + softTtl.toMillis(), now + hardTtl.toMillis(), computeMillis);
+    }
+
+    public boolean isStale(long now) {
+        return now >= softExpireAt;
+    }
+
+    public boolean isExpired(long now) {
+        return now >= hardExpireAt;
+    }
+
+    // XFetch 조기 갱신 판정
+    public boolean shouldRefreshEarly(long now, double beta, double random) {
+        if (beta <= 0 || computeMillis <= 0) {
+            return false;
+        }
+        return now - computeMillis * beta * Math.log(random) >= softExpireAt;
+    }
+}
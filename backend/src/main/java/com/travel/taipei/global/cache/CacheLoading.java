@@ -0,0 +1,65 @@
+package com.travel.taipei.global.cache;
+
+import com.travel.taipei.global.client.CallContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public final class CacheLoading {
+
+    private CacheLoading() {
+    }
+
+    public static <T> T getOrLoad(Cache cache, Object key, Supplier<T> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+
+        try {
+            return cache.get(key, loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public static <T> Mono<T> getOrLoadAsync(Cache cache, Object key, Supplier<Mono<T>> loader) {
+        if (cache == null) {
+            return Mono.defer(loader);
+        }
+        return Mono.deferContextual(context -> {
+            Context captured = CallContext.capture(context);
+            return Mono.fromFuture(() -> cache.retrieve(key, () -> loader.get().contextWrite(captured).toFuture()));
+        });
+    }
+
+    // soft 만료 시각을 정해 값을 쓴다. 그런 캐시 계층이 없으면 일반 put으로 쓴다.
+    public static void putUntil(Cache cache, Object key, Object value, Instant softExpireAt) {
+        if (cache instanceof SoftExpiringCache softExpiringCache) {
+            softExpiringCache.putUntil(key, value, softExpireAt);
+        } else {
+            cache.put(key, value);
+        }
+    }
+
+    // retrieve 결과를 ValueWrapper로 통일
+    public static CompletableFuture<Cache.ValueWrapper> retrieveWrapper(Cache cache, Object key) {
+        CompletableFuture<?> future = cache.retrieve(key);
+        if (future == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return future.thenApply(value -> {
+            if (value == null || value instanceof Cache.ValueWrapper) {
+                return (Cache.ValueWrapper) value;
+            }
+            return new SimpleValueWrapper(value);
+        });
+    }
+}
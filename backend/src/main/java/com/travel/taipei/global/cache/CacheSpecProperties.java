@@ -0,0 +1,81 @@
+package com.travel.taipei.global.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+// staleGrace: hard TTL 이후 Redis에 더 보관하는 시간
+@ConfigurationProperties(prefix = "cache")
+public record CacheSpecProperties(
+        @DefaultValue Near near,
+        @DefaultValue Refill refill,
+        @DefaultValue Compression compression,
+        @DefaultValue("1h") Duration staleGrace,
+        Map<String, CacheSpec> specs
+) {
+    public CacheSpecProperties {
+        specs = specs != null ? specs : Map.of();
+    }
+
+    public CacheSpec specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, CacheSpec.DEFAULT);
+    }
+
+    public record Near(
+            @DefaultValue("false") boolean enabled
+    ) {}
+
+    public record Refill(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("15s") Duration leaseTtl,
+            @DefaultValue("3s") Duration waitTimeout,
+            @DefaultValue("100ms") Duration pollInterval
+    ) {}
+
+    // threshold 이상만 LZ4 압축
+    public record Compression(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("1KB") DataSize threshold
+    ) {}
+
+    public record CacheSpec(
+            @DefaultValue("10m") Duration ttl,
+            Duration softTtl,
+            @DefaultValue("0") long nearMaxSize,
+            @DefaultValue("1m") Duration nearTtl,
+            @DefaultValue("SMILE") CacheValueFormat format,
+            Duration ttlJitter,
+            @DefaultValue("0") double earlyRefreshBeta,
+            Duration earlyRefreshMinCompute
+    ) {
+        public static final CacheSpec DEFAULT = new CacheSpec(
+                Duration.ofMinutes(10), null, 0, Duration.ofMinutes(1), CacheValueFormat.SMILE, null, 0, null);
+
+        public boolean nearCacheEnabled() {
+            return nearMaxSize > 0;
+        }
+
+        // soft TTL 이후 stale 응답 + 백그라운드 갱신
+        public Duration effectiveSoftTtl() {
+            return softTtl != null && softTtl.compareTo(ttl) < 0 ? softTtl : ttl;
+        }
+
+        // XFetch 계산 시간 하한
+        public long earlyRefreshMinComputeMillis() {
+            return earlyRefreshMinCompute != null && !earlyRefreshMinCompute.isNegative() ? earlyRefreshMinCompute.toMillis() : 0L;
+        }
+
+        // soft TTL 지터 상한
+        public Duration jitteredSoftTtl(double random) {
+            Duration softTtl = effectiveSoftTtl();
+            if (ttlJitter == null || ttlJitter.isZero() || ttlJitter.isNegative()) {
+                return softTtl;
+            }
+            Duration jittered = softTtl.minusMillis((long) (ttlJitter.toMillis() * random));
+            return jittered.isNegative() ? Duration.ZERO : jittered;
+        }
+    }
+}
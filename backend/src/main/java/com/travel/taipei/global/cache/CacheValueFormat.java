@@ -0,0 +1,7 @@
+package com.travel.taipei.global.cache;
+
+// 타입 정보가 없는 캐시는 SMILE이어도 JSON으로 저장
+public enum CacheValueFormat {
+    JSON,
+    SMILE
+}
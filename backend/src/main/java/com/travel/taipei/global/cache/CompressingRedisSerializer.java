@@ -0,0 +1,104 @@
+package com.travel.taipei.global.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// [0x1F][원본 길이 4B][LZ4 블록], 마커가 없으면 delegate로 읽음
+public class CompressingRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte LZ4_MARKER = 0x1F;
+    private static final int HEADER_LENGTH = 1 + Integer.BYTES;
+    private static final int MAX_COMPRESSION_RATIO = 255;
+    private static final int MAX_DECOMPRESSED_LENGTH = 16 * 1024 * 1024;
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final RedisSerializer<Object> delegate;
+    private final int threshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4SafeDecompressor decompressor = LZ4.safeDecompressor();
+    private final DistributionSummary ratio;
+    private final Timer compressTimer;
+    private final Timer decompressTimer;
+
+    public CompressingRedisSerializer(
+            String cacheName,
+            RedisSerializer<Object> delegate,
+            int threshold,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.ratio = DistributionSummary.builder("cache.compression.ratio")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+        this.compressTimer = Timer.builder("cache.compression.time")
+                .tags("cache", cacheName, "operation", "compress")
+                .register(meterRegistry);
+        this.decompressTimer = Timer.builder("cache.compression.time")
+                .tags("cache", cacheName, "operation", "decompress")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] raw = delegate.serialize(value);
+        if (raw == null || raw.length < threshold) {
+            return raw;
+        }
+
+        long start = System.nanoTime();
+        int maxLength = compressor.maxCompressedLength(raw.length);
+        byte[] out = new byte[HEADER_LENGTH + maxLength];
+        out[0] = LZ4_MARKER;
+        ByteBuffer.wrap(out, 1, Integer.BYTES).putInt(raw.length);
+        int compressedLength = compressor.compress(raw, 0, raw.length, out, HEADER_LENGTH, maxLength);
+        compressTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        int storedLength = HEADER_LENGTH + compressedLength;
+        if (storedLength >= raw.length) {
+            return raw;
+        }
+        ratio.record((double) raw.length / storedLength);
+        return Arrays.copyOf(out, storedLength);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length <= HEADER_LENGTH || bytes[0] != LZ4_MARKER) {
+            return delegate.deserialize(bytes);
+        }
+
+        long start = System.nanoTime();
+        byte[] raw;
+        int compressedLength = bytes.length - HEADER_LENGTH;
+        int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+        if (originalLength <= 0
+                || originalLength > MAX_DECOMPRESSED_LENGTH
+                || originalLength > (long) compressedLength * MAX_COMPRESSION_RATIO) {
+            throw new SerializationException("Invalid decompressed length in cache value header: " + originalLength);
+        }
+        try {
+            raw = new byte[originalLength];
+            int decompressedLength = decompressor.decompress(bytes, HEADER_LENGTH, compressedLength, raw, 0);
+            if (decompressedLength != originalLength) {
+                throw new SerializationException("Decompressed length mismatch: expected "
+                        + originalLength + " but was " + decompressedLength);
+            }
+        } catch (LZ4Exception | IllegalArgumentException e) {
+            throw new SerializationException("Could not decompress cache value", e);
+        }
+        decompressTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return delegate.deserialize(raw);
+    }
+}
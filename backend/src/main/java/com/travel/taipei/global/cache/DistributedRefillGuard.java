@@ -0,0 +1,251 @@
+package com.travel.taipei.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Redis 리스를 쥔 노드만 키를 다시 채움
+@Slf4j
+public class DistributedRefillGuard {
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            redis.call('SET', KEYS[1], token, 'PX', ARGV[1])
+            return token
+            """, Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    private static final byte[] FENCED_WRITE_SCRIPT = """
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            if tonumber(ARGV[3]) > 0 then
+                redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            else
+                redis.call('SET', KEYS[2], ARGV[2])
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+    private static final long FENCE_TTL_MS = 24 * 60 * 60 * 1000L;
+    private static final long NO_LEASE = -1L;
+
+    private final String cacheName;
+    private final RedisCacheConfiguration cacheConfiguration;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheSpecProperties.Refill properties;
+    private final MeterRegistry meterRegistry;
+
+    public DistributedRefillGuard(
+            String cacheName,
+            RedisCacheConfiguration cacheConfiguration,
+            StringRedisTemplate redisTemplate,
+            CacheSpecProperties.Refill properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.cacheName = cacheName;
+        this.cacheConfiguration = cacheConfiguration;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T refill(
+            String key,
+            Supplier<Cache.ValueWrapper> published,
+            Supplier<T> loader,
+            Consumer<T> unguardedWriter,
+            Consumer<T> committed
+    ) {
+        String leaseKey = guardKey(key, "lease");
+        long token = tryAcquire(leaseKey, guardKey(key, "fence"));
+
+        if (token == NO_LEASE) {
+            record("unguarded");
+            T value = loader.get();
+            if (value != null) {
+                unguardedWriter.accept(value);
+            }
+            return value;
+        }
+
+        if (token != 0L) {
+            record("acquired");
+            return loadAndCommit(key, leaseKey, token, loader, committed);
+        }
+
+        Cache.ValueWrapper awaited = awaitPublished(leaseKey, published);
+        if (awaited != null) {
+            record("waited");
+            return (T) awaited.get();
+        }
+
+        record("timeout");
+        return loader.get();
+    }
+
+    // 백그라운드 갱신용, 리스가 없으면 null
+    public <T> T refresh(String key, Supplier<T> loader, Consumer<T> unguardedWriter, Consumer<T> committed) {
+        String leaseKey = guardKey(key, "lease");
+        long token = tryAcquire(leaseKey, guardKey(key, "fence"));
+
+        if (token == NO_LEASE) {
+            record("unguarded");
+            T value = loader.get();
+            if (value != null) {
+                unguardedWriter.accept(value);
+            }
+            return value;
+        }
+        if (token == 0L) {
+            record("refresh_skipped");
+            return null;
+        }
+
+        record("acquired");
+        return loadAndCommit(key, leaseKey, token, loader, committed);
+    }
+
+    private <T> T loadAndCommit(String key, String leaseKey, long token, Supplier<T> loader, Consumer<T> committed) {
+        try {
+            T value = loader.get();
+            if (value != null) {
+                if (writeFenced(leaseKey, token, key, value)) {
+                    committed.accept(value);
+                } else {
+                    record("fenced_out");
+                }
+            }
+            return value;
+        } finally {
+            release(leaseKey, token);
+        }
+    }
+
+    private long tryAcquire(String leaseKey, String fenceKey) {
+        try {
+            Long token = redisTemplate.execute(
+                    ACQUIRE_SCRIPT,
+                    List.of(leaseKey, fenceKey),
+                    String.valueOf(properties.leaseTtl().toMillis()),
+                    String.valueOf(FENCE_TTL_MS)
+            );
+            return token != null ? token : NO_LEASE;
+        } catch (RuntimeException e) {
+            log.warn("[DistributedRefillGuard] 리스 획득 실패, 단독으로 갱신합니다. cache={}, key={}", cacheName, leaseKey, e);
+            return NO_LEASE;
+        }
+    }
+
+    private boolean writeFenced(String leaseKey, long token, String key, Object value) {
+        try {
+            byte[] rawKey = ByteUtils.getBytes(cacheConfiguration.getKeySerializationPair().write(cacheKey(key)));
+            byte[] rawValue = ByteUtils.getBytes(cacheConfiguration.getValueSerializationPair().write(value));
+            Duration ttl = cacheConfiguration.getTtlFunction().getTimeToLive(key, value);
+            long ttlMillis = ttl != null && !ttl.isNegative() ? ttl.toMillis() : 0L;
+
+            Long written = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    FENCED_WRITE_SCRIPT,
+                    ReturnType.INTEGER,
+                    2,
+                    bytes(leaseKey),
+                    rawKey,
+                    bytes(String.valueOf(token)),
+                    rawValue,
+                    bytes(String.valueOf(ttlMillis))
+            ));
+            return Long.valueOf(1L).equals(written);
+        } catch (RuntimeException e) {
+            log.warn("[DistributedRefillGuard] 펜스 검사 후 기록 실패, 캐시에 쓰지 않습니다. cache={}, key={}", cacheName, leaseKey, e);
+            return false;
+        }
+    }
+
+    private String cacheKey(String key) {
+        return cacheConfiguration.usePrefix() ? cacheConfiguration.getKeyPrefixFor(cacheName) + key : key;
+    }
+
+    // 펜스 기록 스크립트가 함께 쓰는 엔트리 키와 같은 클러스터 슬롯
+    private String guardKey(String key, String suffix) {
+        return "refill:{" + hashTag(cacheKey(key)) + "}:" + suffix;
+    }
+
+    private static String hashTag(String redisKey) {
+        int start = redisKey.indexOf('{');
+        if (start >= 0) {
+            int end = redisKey.indexOf('}', start + 1);
+            if (end > start + 1) {
+                return redisKey.substring(start + 1, end);
+            }
+        }
+        return redisKey;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void release(String leaseKey, long token) {
+        if (token == NO_LEASE) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), String.valueOf(token));
+        } catch (RuntimeException e) {
+            log.warn("[DistributedRefillGuard] 리스 해제 실패 cache={}, key={}", cacheName, leaseKey, e);
+        }
+    }
+
+    private Cache.ValueWrapper awaitPublished(String leaseKey, Supplier<Cache.ValueWrapper> published) {
+        long deadline = System.nanoTime() + properties.waitTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(properties.pollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            Cache.ValueWrapper value = published.get();
+            if (value != null) {
+                return value;
+            }
+            if (!leaseExists(leaseKey)) {
+                return published.get();
+            }
+        }
+        return null;
+    }
+
+    private boolean leaseExists(String leaseKey) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("cache.refill", "cache", cacheName, "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,113 @@
+package com.travel.taipei.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+// Redis 캐시 위에 L1, single-flight, 분산 갱신 가드, SWR, 지표 계층을 씌움
+public class LayeredCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheSpecProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Executor refreshExecutor;
+    private final Executor refillExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cache-refill-", 0).factory());
+    private final NearCacheInvalidator invalidator;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TwoLevelCache> nearCaches = new ConcurrentHashMap<>();
+
+    public LayeredCacheManager(
+            CacheManager delegate,
+            CacheSpecProperties properties,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            Executor refreshExecutor
+    ) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = refreshExecutor;
+        this.invalidator = properties.near().enabled()
+                ? new NearCacheInvalidator(redisTemplate, this::evictLocal)
+                : null;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache existing = caches.get(name);
+        if (existing != null) {
+            return existing;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> decorate(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    public NearCacheInvalidator getInvalidator() {
+        return invalidator;
+    }
+
+    private Cache decorate(Cache target) {
+        String name = target.getName();
+        Cache cache = target;
+
+        CacheSpecProperties.CacheSpec spec = properties.specFor(name);
+        if (invalidator != null && spec.nearCacheEnabled()) {
+            Duration nearTtl = spec.nearTtl().compareTo(spec.ttl()) < 0 ? spec.nearTtl() : spec.ttl();
+            TwoLevelCache twoLevelCache = new TwoLevelCache(cache, Caffeine.newBuilder()
+                    .maximumSize(spec.nearMaxSize())
+                    .expireAfterWrite(nearTtl)
+                    .build(), invalidator);
+            nearCaches.put(name, twoLevelCache);
+            cache = twoLevelCache;
+        }
+
+        SingleFlight singleFlight = new SingleFlight(meterRegistry.counter("cache.singleflight.coalesced", "cache", name));
+        Gauge.builder("cache.singleflight.inflight", singleFlight, SingleFlight::inFlightCount)
+                .tag("cache", name)
+                .register(meterRegistry);
+        // 가드는 리스 대기 중 스레드를 잡으므로 가상 스레드에서 실행
+        DistributedRefillGuard refillGuard = properties.refill().enabled() && target instanceof RedisCache redisCache
+                ? new DistributedRefillGuard(
+                        name, redisCache.getCacheConfiguration(), redisTemplate, properties.refill(), meterRegistry)
+                : null;
+        // hard TTL이 지난 envelope는 미스로 처리
+        Clock clock = Clock.systemUTC();
+        cache = new SingleFlightCache(cache, singleFlight, refillGuard,
+                value -> value instanceof CacheEnvelope<?> envelope && envelope.isExpired(clock.millis()),
+                refillExecutor);
+
+        cache = new StaleWhileRevalidateCache(cache, spec, refreshExecutor, meterRegistry, clock);
+        return new MeteredCache(cache, meterRegistry);
+    }
+
+    private void evictLocal(String cacheName, String key) {
+        TwoLevelCache nearCache = nearCaches.get(cacheName);
+        if (nearCache != null) {
+            nearCache.evictLocal(key);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.travel.taipei.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// cache.gets(hit|miss), cache.puts, cache.evictions 계측
+public class MeteredCache implements Cache, SoftExpiringCache {
+
+    private static final ThreadLocal<Boolean> UNMETERED = ThreadLocal.withInitial(() -> false);
+
+    private final Cache delegate;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter evictions;
+
+    public MeteredCache(Cache delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        String name = delegate.getName();
+        this.hits = meterRegistry.counter("cache.gets", "cache", name, "result", "hit");
+        this.misses = meterRegistry.counter("cache.gets", "cache", name, "result", "miss");
+        this.puts = meterRegistry.counter("cache.puts", "cache", name);
+        this.evictions = meterRegistry.counter("cache.evictions", "cache", name);
+    }
+
+    // 워밍업 반복처럼 사용자 트래픽이 아닌 캐시 호출은 세지 않음
+    public static void runUnmetered(Runnable work) {
+        boolean previous = UNMETERED.get();
+        UNMETERED.set(true);
+        try {
+            work.run();
+        } finally {
+            UNMETERED.set(previous);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        increment(wrapper != null ? hits : misses);
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        increment(value != null ? hits : misses);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        LoaderProbe probe = new LoaderProbe();
+        try {
+            return delegate.get(key, () -> {
+                probe.loaded();
+                return valueLoader.call();
+            });
+        } finally {
+            probe.count(hits, misses);
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        boolean metered = !UNMETERED.get();
+        return CacheLoading.retrieveWrapper(delegate, key).thenApply(wrapper -> {
+            if (metered) {
+                (wrapper != null ? hits : misses).increment();
+            }
+            return wrapper;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        LoaderProbe probe = new LoaderProbe();
+        return delegate.retrieve(key, () -> {
+                    probe.loaded();
+                    return valueLoader.get();
+                })
+                .whenComplete((value, error) -> probe.count(hits, misses));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        increment(puts);
+    }
+
+    @Override
+    public void putUntil(Object key, Object value, Instant softExpireAt) {
+        CacheLoading.putUntil(delegate, key, value, softExpireAt);
+        increment(puts);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            increment(puts);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        increment(evictions);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        increment(evictions);
+    }
+
+    private static void increment(Counter counter) {
+        if (!UNMETERED.get()) {
+            counter.increment();
+        }
+    }
+
+    private static final class LoaderProbe {
+
+        private static final int PENDING = 0;
+        private static final int LOADED = 1;
+        private static final int COUNTED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private final boolean metered = !UNMETERED.get();
+
+        private void loaded() {
+            state.compareAndSet(PENDING, LOADED);
+        }
+
+        private void count(Counter hits, Counter misses) {
+            Counter counter = state.compareAndSet(PENDING, COUNTED) ? hits : misses;
+            if (metered) {
+                counter.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.travel.taipei.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+// put/evict 시 pub/sub으로 다른 노드의 L1 무효화
+@Slf4j
+public class NearCacheInvalidator implements MessageListener {
+
+    public static final String CHANNEL = "cache:near:invalidate";
+
+    private static final String SEPARATOR = "\t";
+    private static final String ALL_KEYS = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final BiConsumer<String, String> localEvictor;
+
+    public NearCacheInvalidator(StringRedisTemplate redisTemplate, BiConsumer<String, String> localEvictor) {
+        this.redisTemplate = redisTemplate;
+        this.localEvictor = localEvictor;
+    }
+
+    public void publish(String cacheName, String key) {
+        String message = String.join(SEPARATOR, nodeId, cacheName, key != null ? key : ALL_KEYS);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("[NearCacheInvalidator] 무효화 메시지 발행 실패 cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        localEvictor.accept(parts[1], ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+    }
+}
@@ -0,0 +1,192 @@
+package com.travel.taipei.global.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// RedisCache.get(key, loader)는 캐시 전체를 잠그므로 키 단위로 합쳐서 적재
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final SingleFlight singleFlight;
+    private final DistributedRefillGuard refillGuard;
+    private final Predicate<Object> expired;
+    private final Executor guardExecutor;
+
+    public SingleFlightCache(Cache delegate, SingleFlight singleFlight) {
+        this(delegate, singleFlight, null);
+    }
+
+    public SingleFlightCache(Cache delegate, SingleFlight singleFlight, DistributedRefillGuard refillGuard) {
+        this(delegate, singleFlight, refillGuard, value -> false, Runnable::run);
+    }
+
+    public SingleFlightCache(
+            Cache delegate,
+            SingleFlight singleFlight,
+            DistributedRefillGuard refillGuard,
+            Predicate<Object> expired,
+            Executor guardExecutor
+    ) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlight;
+        this.refillGuard = refillGuard;
+        this.expired = expired;
+        this.guardExecutor = guardExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = lookup(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        String flightKey = String.valueOf(key);
+        return singleFlight.execute(flightKey, () -> fill(key, flightKey, valueLoader));
+    }
+
+    // 다른 노드가 갱신 중이면 null
+    public <T> T refresh(Object key, Callable<T> valueLoader) {
+        String flightKey = String.valueOf(key);
+        return singleFlight.execute(flightKey, () -> {
+            if (refillGuard == null) {
+                T value = load(key, valueLoader);
+                write(key, value);
+                return value;
+            }
+            return refillGuard.refresh(
+                    flightKey,
+                    () -> load(key, valueLoader),
+                    value -> write(key, value),
+                    value -> committed(key, value)
+            );
+        });
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        if (refillGuard == null) {
+            return singleFlight.executeAsync(String.valueOf(key), () -> delegate.retrieve(key, valueLoader));
+        }
+
+        String flightKey = String.valueOf(key);
+        return singleFlight.executeAsync(flightKey, () -> {
+            CompletableFuture<T> loaded = new CompletableFuture<>();
+            guardExecutor.execute(() -> {
+                try {
+                    loaded.complete(fill(key, flightKey, () -> valueLoader.get().join()));
+                } catch (RuntimeException e) {
+                    loaded.completeExceptionally(loaderFailure(e));
+                }
+            });
+            return loaded;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T fill(Object key, String flightKey, Callable<T> valueLoader) {
+        ValueWrapper loaded = lookup(key);
+        if (loaded != null) {
+            return (T) loaded.get();
+        }
+
+        if (refillGuard == null) {
+            T value = load(key, valueLoader);
+            write(key, value);
+            return value;
+        }
+        return refillGuard.refill(
+                flightKey,
+                () -> lookup(key),
+                () -> load(key, valueLoader),
+                value -> write(key, value),
+                value -> committed(key, value)
+        );
+    }
+
+    private static Throwable loaderFailure(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof ValueRetrievalException || cause instanceof CompletionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private ValueWrapper lookup(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        return wrapper != null && !expired.test(wrapper.get()) ? wrapper : null;
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private void write(Object key, Object value) {
+        if (value != null) {
+            delegate.put(key, value);
+        }
+    }
+
+    // 가드가 Redis에 직접 기록한 값은 L1만 갱신
+    private void committed(Object key, Object value) {
+        if (delegate instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.putLocal(key, value);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+}
@@ -0,0 +1,9 @@
+package com.travel.taipei.global.cache;
+
+import java.time.Instant;
+
+// soft 만료 시각을 지정해 쓰는 캐시
+public interface SoftExpiringCache {
+
+    void putUntil(Object key, Object value, Instant softExpireAt);
+}
@@ -0,0 +1,311 @@
+package com.travel.taipei.global.cache;
+
+import com.travel.taipei.global.client.CallPriority;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+// soft TTL 이후 stale 응답 + 백그라운드 갱신, hard TTL 이후 동기 적재
+@Slf4j
+public class StaleWhileRevalidateCache implements Cache, SoftExpiringCache {
+
+    private final Cache delegate;
+    private final CacheSpecProperties.CacheSpec spec;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final DoubleSupplier random;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public StaleWhileRevalidateCache(
+            Cache delegate,
+            CacheSpecProperties.CacheSpec spec,
+            Executor refreshExecutor,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this(delegate, spec, refreshExecutor, meterRegistry, clock, () -> 1.0 - ThreadLocalRandom.current().nextDouble());
+    }
+
+    StaleWhileRevalidateCache(
+            Cache delegate,
+            CacheSpecProperties.CacheSpec spec,
+            Executor refreshExecutor,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            DoubleSupplier random
+    ) {
+        this.delegate = delegate;
+        this.spec = spec;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheEnvelope<?> envelope = envelope(delegate.get(key));
+        if (envelope == null || envelope.isExpired(clock.millis())) {
+            return null;
+        }
+        return new SimpleValueWrapper(envelope.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long now = clock.millis();
+        CacheEnvelope<?> envelope = envelope(delegate.get(key));
+        if (envelope != null && !envelope.isExpired(now)) {
+            if (envelope.isStale(now)) {
+                record("stale_served");
+                refreshAsync(key, valueLoader);
+            } else if (envelope.shouldRefreshEarly(now, spec.earlyRefreshBeta(), random.getAsDouble())) {
+                record("early_refresh");
+                refreshAsync(key, valueLoader);
+            }
+            return (T) envelope.value();
+        }
+        // 한도 초과 시 stale 응답용으로 남겨 둠
+        if (envelope != null && !(delegate instanceof SingleFlightCache)) {
+            delegate.evict(key);
+        }
+
+        try {
+            return (T) unwrap(delegate.<Object>get(key, () -> load(valueLoader)));
+        } catch (RuntimeException e) {
+            if (envelope != null && isRateLimited(e)) {
+                record("stale_on_rate_limit");
+                return (T) envelope.value();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return CacheLoading.retrieveWrapper(delegate, key).thenApply(wrapper -> {
+            CacheEnvelope<?> envelope = envelope(wrapper);
+            if (envelope == null || envelope.isExpired(clock.millis())) {
+                return null;
+            }
+            return new SimpleValueWrapper(envelope.value());
+        });
+    }
+
+    // evict와 백그라운드 갱신은 refreshExecutor에서 실행
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return CacheLoading.retrieveWrapper(delegate, key).thenCompose(wrapper -> {
+            long now = clock.millis();
+            CacheEnvelope<?> envelope = envelope(wrapper);
+            if (envelope != null && !envelope.isExpired(now)) {
+                if (envelope.isStale(now)) {
+                    record("stale_served");
+                    refreshAsync(key, () -> valueLoader.get().join());
+                } else if (envelope.shouldRefreshEarly(now, spec.earlyRefreshBeta(), random.getAsDouble())) {
+                    record("early_refresh");
+                    refreshAsync(key, () -> valueLoader.get().join());
+                }
+                return CompletableFuture.completedFuture((T) envelope.value());
+            }
+
+            if (envelope == null) {
+                return loadAsync(key, valueLoader);
+            }
+            // retrieve는 hard TTL이 지난 값도 돌려줌
+            CompletableFuture<T> loaded = delegate instanceof SingleFlightCache
+                    ? CompletableFuture.supplyAsync(
+                            () -> (T) unwrap(delegate.<Object>get(key, () -> load(() -> valueLoader.get().join()))),
+                            refreshExecutor)
+                    : CompletableFuture.runAsync(() -> delegate.evict(key), refreshExecutor)
+                            .thenCompose(ignored -> loadAsync(key, valueLoader));
+            return loaded.exceptionallyCompose(e -> {
+                if (isRateLimited(e)) {
+                    record("stale_on_rate_limit");
+                    return CompletableFuture.completedFuture((T) envelope.value());
+                }
+                return CompletableFuture.failedFuture(e);
+            });
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, wrap(value));
+    }
+
+    @Override
+    public void putUntil(Object key, Object value, Instant softExpireAt) {
+        if (value == null) {
+            delegate.put(key, null);
+            return;
+        }
+        long now = clock.millis();
+        long hardExpireAt = now + spec.ttl().toMillis();
+        delegate.put(key, new CacheEnvelope<>(value, now, Math.min(softExpireAt.toEpochMilli(), hardExpireAt), hardExpireAt,
+                spec.earlyRefreshMinComputeMillis()));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        CacheEnvelope<?> existing = envelope(delegate.putIfAbsent(key, wrap(value)));
+        return existing != null ? new SimpleValueWrapper(existing.value()) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        String refreshKey = String.valueOf(key);
+        if (!refreshing.add(refreshKey)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    // 사용자는 이미 stale 값을 받았으므로 BACKGROUND
+                    CacheEnvelope<Object> refreshed = CallPriority.callInBackground(() -> refresh(key, valueLoader));
+                    record(refreshed != null ? "refreshed" : "refresh_skipped");
+                } catch (Exception e) {
+                    if (isRateLimited(e)) {
+                        record("refresh_rate_limited");
+                        return;
+                    }
+                    record("refresh_failed");
+                    log.warn("[StaleWhileRevalidateCache] 백그라운드 갱신 실패, stale 값을 유지합니다. cache={}, key={}", getName(), key, e);
+                } finally {
+                    refreshing.remove(refreshKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(refreshKey);
+            record("refresh_rejected");
+        }
+    }
+
+    private CacheEnvelope<Object> refresh(Object key, Callable<?> valueLoader) {
+        if (delegate instanceof SingleFlightCache singleFlightCache) {
+            return singleFlightCache.refresh(key, () -> load(valueLoader));
+        }
+        CacheEnvelope<Object> refreshed = loadUnchecked(key, valueLoader);
+        if (refreshed != null) {
+            delegate.put(key, refreshed);
+        }
+        return refreshed;
+    }
+
+    private CacheEnvelope<Object> loadUnchecked(Object key, Callable<?> valueLoader) {
+        try {
+            return load(valueLoader);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private CacheEnvelope<Object> load(Callable<?> valueLoader) throws Exception {
+        long start = clock.millis();
+        Object value = valueLoader.call();
+        return wrap(value, clock.millis() - start);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> loadAsync(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        long start = clock.millis();
+        return delegate.<Object>retrieve(key, () -> valueLoader.get()
+                        .<Object>thenApply(value -> wrap(value, clock.millis() - start)))
+                .thenApply(loaded -> (T) unwrap(loaded));
+    }
+
+    private Object unwrap(Object loaded) {
+        CacheEnvelope<?> loadedEnvelope = envelope(new SimpleValueWrapper(loaded));
+        return loadedEnvelope != null ? loadedEnvelope.value() : null;
+    }
+
+    private CacheEnvelope<Object> wrap(Object value) {
+        return wrap(value, 0L);
+    }
+
+    private CacheEnvelope<Object> wrap(Object value, long computeMillis) {
+        if (value == null) {
+            return null;
+        }
+        return CacheEnvelope.of(value, clock.millis(), spec.jitteredSoftTtl(random.getAsDouble()), spec.ttl(),
+                Math.max(computeMillis, spec.earlyRefreshMinComputeMillis()));
+    }
+
+    // envelope 없는 값은 hard TTL까지 신선
+    private CacheEnvelope<?> envelope(ValueWrapper wrapper) {
+        if (wrapper == null || wrapper.get() == null) {
+            return null;
+        }
+        if (wrapper.get() instanceof CacheEnvelope<?> envelope) {
+            return envelope;
+        }
+        return new CacheEnvelope<>(wrapper.get(), 0L, Long.MAX_VALUE, Long.MAX_VALUE, 0L);
+    }
+
+    // 업스트림 한도·대기열 초과 여부
+    private static boolean isRateLimited(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BusinessException businessException
+                    && (businessException.getErrorCode() == ErrorCode.UPSTREAM_RATE_LIMITED
+                    || businessException.getErrorCode() == ErrorCode.UPSTREAM_BUSY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("cache.swr", "cache", getName(), "outcome", outcome).increment();
+    }
+}
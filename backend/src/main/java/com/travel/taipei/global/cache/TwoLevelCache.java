@@ -0,0 +1,174 @@
+package com.travel.taipei.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// 프로세스 내 L1(Caffeine) 뒤에 Redis 캐시를 두는 2단계 캐시.
+public class TwoLevelCache implements Cache {
+
+    private final Cache delegate;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache;
+    private final NearCacheInvalidator invalidator;
+
+    public TwoLevelCache(
+            Cache delegate,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache,
+            NearCacheInvalidator invalidator
+    ) {
+        this.delegate = delegate;
+        this.nearCache = nearCache;
+        this.invalidator = invalidator;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String nearKey = String.valueOf(key);
+        Object near = nearCache.getIfPresent(nearKey);
+        if (near != null) {
+            return new SimpleValueWrapper(near);
+        }
+
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            nearCache.put(nearKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        String nearKey = String.valueOf(key);
+        Object near = nearCache.getIfPresent(nearKey);
+        if (near != null) {
+            return CompletableFuture.completedFuture(new SimpleValueWrapper(near));
+        }
+
+        return CacheLoading.retrieveWrapper(delegate, key).thenApply(wrapper -> {
+            if (wrapper != null && wrapper.get() != null) {
+                nearCache.put(nearKey, wrapper.get());
+            }
+            return wrapper;
+        });
+    }
+
+    // 완료 콜백은 Redis I/O 스레드일 수 있으므로 발행은 별도 스레드에서
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        String nearKey = String.valueOf(key);
+        Object near = nearCache.getIfPresent(nearKey);
+        if (near != null) {
+            return CompletableFuture.completedFuture((T) near);
+        }
+
+        AtomicBoolean loaded = new AtomicBoolean();
+        return delegate.retrieve(key, () -> {
+            loaded.set(true);
+            return valueLoader.get();
+        }).thenApply(value -> {
+            if (value != null) {
+                nearCache.put(nearKey, value);
+            }
+            if (loaded.get()) {
+                CompletableFuture.runAsync(() -> invalidator.publish(getName(), nearKey));
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String nearKey = String.valueOf(key);
+        delegate.put(key, value);
+        if (value != null) {
+            nearCache.put(nearKey, value);
+        } else {
+            nearCache.invalidate(nearKey);
+        }
+        invalidator.publish(getName(), nearKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String nearKey = String.valueOf(key);
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        nearCache.invalidate(nearKey);
+        if (existing == null) {
+            invalidator.publish(getName(), nearKey);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String nearKey = String.valueOf(key);
+        delegate.evict(key);
+        nearCache.invalidate(nearKey);
+        invalidator.publish(getName(), nearKey);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        nearCache.invalidateAll();
+        invalidator.publish(getName(), null);
+    }
+
+    void putLocal(Object key, Object value) {
+        String nearKey = String.valueOf(key);
+        nearCache.put(nearKey, value);
+        invalidator.publish(getName(), nearKey);
+    }
+
+    void evictLocal(String key) {
+        if (key == null) {
+            nearCache.invalidateAll();
+        } else {
+            nearCache.invalidate(key);
+        }
+    }
+}
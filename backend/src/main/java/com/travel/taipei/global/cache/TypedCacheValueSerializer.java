@@ -0,0 +1,66 @@
+package com.travel.taipei.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+// 캐시별 타입에 바인딩된 Smile 직렬화, 기존 JSON 값도 읽음
+public class TypedCacheValueSerializer implements RedisSerializer<Object> {
+
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final RedisSerializer<Object> legacySerializer;
+
+    public TypedCacheValueSerializer(ObjectMapper smileMapper, JavaType valueType, RedisSerializer<Object> legacySerializer) {
+        JavaType envelopeType = smileMapper.getTypeFactory().constructParametricType(CacheEnvelope.class, valueType);
+        this.writer = smileMapper.writerFor(envelopeType);
+        this.reader = smileMapper.readerFor(envelopeType);
+        this.legacySerializer = legacySerializer;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!(value instanceof CacheEnvelope<?>)) {
+            return legacySerializer.serialize(value);
+        }
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile cache value", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (!hasSmileHeader(bytes)) {
+            return legacySerializer.deserialize(bytes);
+        }
+        try {
+            return reader.readValue(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile cache value", e);
+        }
+    }
+
+    private boolean hasSmileHeader(byte[] bytes) {
+        if (bytes.length < SMILE_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < SMILE_HEADER.length; i++) {
+            if (bytes[i] != SMILE_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package com.travel.taipei.global.client;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+// 스레드에 묶인 CallPriority·Deadline을 Reactor Context로 전달
+public final class CallContext {
+
+    private CallContext() {
+    }
+
+    // 요청 스레드에서 조립할 때 호출
+    public static Context capture() {
+        return capture(Context.empty());
+    }
+
+    public static Context capture(ContextView context) {
+        Context captured = Context.of(CallPriority.class, priority(context));
+        Deadline deadline = deadline(context);
+        return deadline != null ? captured.put(Deadline.class, deadline) : captured;
+    }
+
+    public static CallPriority priority(ContextView context) {
+        if (CallPriority.current() == CallPriority.BACKGROUND) {
+            return CallPriority.BACKGROUND;
+        }
+        return context.getOrDefault(CallPriority.class, CallPriority.INTERACTIVE);
+    }
+
+    public static Deadline deadline(ContextView context) {
+        Deadline bound = Deadline.current();
+        if (bound != null || CallPriority.current() == CallPriority.BACKGROUND) {
+            return bound;
+        }
+        return context.getOrDefault(Deadline.class, null);
+    }
+}
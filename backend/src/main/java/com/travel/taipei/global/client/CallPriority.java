@@ -0,0 +1,33 @@
+package com.travel.taipei.global.client;
+
+import java.util.function.Supplier;
+
+// 외부 API 호출 우선순위
+public enum CallPriority {
+
+    INTERACTIVE,
+    BACKGROUND;
+
+    private static final ThreadLocal<CallPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static CallPriority current() {
+        return CURRENT.get();
+    }
+
+    public static void runInBackground(Runnable work) {
+        callInBackground(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public static <T> T callInBackground(Supplier<T> work) {
+        CallPriority previous = CURRENT.get();
+        CURRENT.set(BACKGROUND);
+        try {
+            return work.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.travel.taipei.global.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+// 업스트림별 동시 호출 한도, 없으면 default
+@ConfigurationProperties(prefix = "external.client.scheduling")
+public record CallSchedulingProperties(
+        @DefaultValue("false") boolean enabled,
+        Map<String, Lane> lanes
+) {
+    public static final String DEFAULT_LANE = "default";
+
+    public CallSchedulingProperties {
+        lanes = lanes != null ? lanes : Map.of();
+    }
+
+    public Lane laneFor(String upstream) {
+        return lanes.getOrDefault(upstream, lanes.getOrDefault(DEFAULT_LANE, Lane.DEFAULT));
+    }
+
+    // adaptive면 min~maxConcurrency 사이에서 AIMD로 조정
+    public record Lane(
+            @DefaultValue("20") int maxConcurrency,
+            @DefaultValue("4") int backgroundMaxConcurrency,
+            @DefaultValue("100") int interactiveMaxQueue,
+            @DefaultValue("50") int backgroundMaxQueue,
+            @DefaultValue("2s") Duration interactiveMaxWait,
+            @DefaultValue("30s") Duration backgroundMaxWait,
+            @DefaultValue("false") boolean adaptive,
+            @DefaultValue("2") int minConcurrency,
+            @DefaultValue("2.0") double latencyTolerance
+    ) {
+        public static final Lane DEFAULT = new Lane(
+                20, 4, 100, 50, Duration.ofSeconds(2), Duration.ofSeconds(30), false, 2, 2.0);
+
+        public int maxQueue(CallPriority priority) {
+            return priority == CallPriority.INTERACTIVE ? interactiveMaxQueue : backgroundMaxQueue;
+        }
+
+        public Duration maxWait(CallPriority priority) {
+            return priority == CallPriority.INTERACTIVE ? interactiveMaxWait : backgroundMaxWait;
+        }
+    }
+}
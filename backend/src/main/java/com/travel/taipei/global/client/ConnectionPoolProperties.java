@@ -0,0 +1,35 @@
+package com.travel.taipei.global.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+// 업스트림별 커넥션 풀, 없으면 default
+@ConfigurationProperties(prefix = "external.client")
+public record ConnectionPoolProperties(
+        Map<String, Pool> pools
+) {
+    public static final String DEFAULT_POOL = "default";
+
+    public ConnectionPoolProperties {
+        pools = pools != null ? pools : Map.of();
+    }
+
+    public Pool poolFor(String name) {
+        return pools.getOrDefault(name, pools.getOrDefault(DEFAULT_POOL, Pool.DEFAULT));
+    }
+
+    public record Pool(
+            @DefaultValue("50") int maxConnections,
+            @DefaultValue("100") int pendingAcquireMaxCount,
+            @DefaultValue("2s") Duration pendingAcquireTimeout,
+            @DefaultValue("30s") Duration maxIdleTime,
+            @DefaultValue("5m") Duration maxLifeTime,
+            @DefaultValue("30s") Duration evictInterval
+    ) {
+        public static final Pool DEFAULT = new Pool(
+                50, 100, Duration.ofSeconds(2), Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(30));
+    }
+}
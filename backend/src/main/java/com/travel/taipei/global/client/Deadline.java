@@ -0,0 +1,60 @@
+package com.travel.taipei.global.client;
+
+import java.time.Duration;
+
+// 요청 하나가 외부 API 호출에 쓸 수 있는 남은 시간
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    // 현재 스레드에 마감 시각을 묶고, close 시 복원
+    public Scope bind() {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    // 남은 시간이 duration보다 길면 true
+    public boolean allows(Duration duration) {
+        return remaining().compareTo(duration) > 0;
+    }
+
+    // timeout과 남은 시간 중 짧은 쪽
+    public Duration cap(Duration timeout) {
+        Duration remaining = remaining();
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,78 @@
+package com.travel.taipei.global.client;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// 하위 호출을 가상 스레드로 동시 실행, 마감 시각을 넘기면 인터럽트
+public final class FanOut {
+
+    private FanOut() {
+    }
+
+    public static <T> List<Future<T>> forkAll(List<? extends Callable<T>> tasks, Duration deadline) {
+        CallPriority priority = CallPriority.current();
+        Deadline requestDeadline = Deadline.current();
+        List<Callable<T>> scoped = tasks.stream()
+                .<Callable<T>>map(task -> () -> call(task, priority, requestDeadline))
+                .toList();
+        Duration timeout = requestDeadline != null ? requestDeadline.cap(deadline) : deadline;
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            return scope.invokeAll(scoped, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
+        }
+    }
+
+    // 마감으로 취소된 작업은 EXTERNAL_API_TIMEOUT
+    public static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+            throw new BusinessException(ErrorCode.EXTERNAL_API_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
+        }
+    }
+
+    private static <T> T call(Callable<T> task, CallPriority priority, Deadline deadline) throws Exception {
+        if (deadline == null) {
+            return callWithPriority(task, priority);
+        }
+        try (Deadline.Scope ignored = deadline.bind()) {
+            return callWithPriority(task, priority);
+        }
+    }
+
+    private static <T> T callWithPriority(Callable<T> task, CallPriority priority) throws Exception {
+        return priority == CallPriority.BACKGROUND
+                ? CallPriority.callInBackground(() -> callUnchecked(task))
+                : task.call();
+    }
+
+    private static <T> T callUnchecked(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.travel.taipei.global.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 헤징 지연 = 최근 응답 시간 quantile을 minDelay~maxDelay로 제한
+@ConfigurationProperties(prefix = "external.client.hedging")
+public record HedgingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.95") double quantile,
+        @DefaultValue("50ms") Duration minDelay,
+        @DefaultValue("2s") Duration maxDelay,
+        @DefaultValue("0.05") double budgetRatio,
+        @DefaultValue("50") int minSamples,
+        @DefaultValue("500") int windowSize
+) {
+}
@@ -0,0 +1,241 @@
+package com.travel.taipei.global.client;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 업스트림별 동시 호출 벌크헤드, INTERACTIVE 대기자 우선
+@Component
+public class OutboundCallScheduler {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    // 최소 호출 시간 재측정 주기(표본 수)
+    private static final int MIN_RTT_RESET_SAMPLES = 500;
+
+    private final CallSchedulingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Upstream, Lane> lanes = new ConcurrentHashMap<>();
+
+    public OutboundCallScheduler(CallSchedulingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static OutboundCallScheduler unbounded(MeterRegistry meterRegistry) {
+        return new OutboundCallScheduler(new CallSchedulingProperties(false, Map.of()), meterRegistry);
+    }
+
+    // 대기열이 가득 차거나 maxWait 초과 시 UPSTREAM_BUSY
+    public <T> Mono<T> schedule(Upstream upstream, CallPriority priority, Mono<T> call) {
+        if (!properties.enabled()) {
+            return call;
+        }
+
+        Lane lane = lanes.computeIfAbsent(upstream, key -> new Lane(key, properties.laneFor(key.getTag())));
+        return Mono.defer(() -> {
+            AtomicBoolean granted = new AtomicBoolean();
+            AtomicLong dispatchedAt = new AtomicLong();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return lane.acquire(priority, granted)
+                    .doOnSuccess(ignored -> {
+                        sample.stop(meterRegistry.timer(
+                                "upstream.scheduler.wait", "upstream", upstream.getTag(), "priority", tag(priority)));
+                        dispatchedAt.set(System.nanoTime());
+                    })
+                    .then(call)
+                    .doOnError(failure::set)
+                    .doFinally(signal -> {
+                        if (granted.get()) {
+                            lane.release(priority, sampleOf(signal, dispatchedAt.get(), failure.get()));
+                        }
+                    });
+        });
+    }
+
+    // 취소·호출 한도 거절·4xx는 한도 조정에서 제외
+    private static CallSample sampleOf(SignalType signal, long dispatchedAt, Throwable failure) {
+        if (signal == SignalType.CANCEL || dispatchedAt == 0) {
+            return CallSample.IGNORED;
+        }
+        if (failure == null) {
+            return new CallSample(dispatchedAt, System.nanoTime() - dispatchedAt, false);
+        }
+        return isOverload(failure) ? new CallSample(dispatchedAt, -1, true) : CallSample.IGNORED;
+    }
+
+    private static boolean isOverload(Throwable failure) {
+        if (failure instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().value() == 429
+                    || responseException.getStatusCode().is5xxServerError();
+        }
+        if (failure instanceof BusinessException businessException) {
+            return businessException.getErrorCode() == ErrorCode.EXTERNAL_API_TIMEOUT;
+        }
+        return failure instanceof TimeoutException || failure.getCause() instanceof TimeoutException;
+    }
+
+    private static String tag(CallPriority priority) {
+        return priority.name().toLowerCase();
+    }
+
+    private final class Lane {
+
+        private final Upstream upstream;
+        private final CallSchedulingProperties.Lane config;
+        private final Map<CallPriority, Integer> inFlight = new EnumMap<>(CallPriority.class);
+        private final Map<CallPriority, ArrayDeque<Waiter>> queues = new EnumMap<>(CallPriority.class);
+        private double limit;
+        private long minRttNanos = Long.MAX_VALUE;
+        private int samplesSinceReset;
+        private long lastDecreaseAt;
+
+        private Lane(Upstream upstream, CallSchedulingProperties.Lane config) {
+            this.upstream = upstream;
+            this.config = config;
+            this.limit = config.maxConcurrency();
+            this.lastDecreaseAt = System.nanoTime();
+            Gauge.builder("upstream.scheduler.limit", this, Lane::limit)
+                    .tag("upstream", upstream.getTag())
+                    .register(meterRegistry);
+            for (CallPriority priority : CallPriority.values()) {
+                inFlight.put(priority, 0);
+                queues.put(priority, new ArrayDeque<>());
+                Gauge.builder("upstream.scheduler.in_flight", this, lane -> lane.inFlight(priority))
+                        .tags("upstream", upstream.getTag(), "priority", tag(priority))
+                        .register(meterRegistry);
+                Gauge.builder("upstream.scheduler.queued", this, lane -> lane.queued(priority))
+                        .tags("upstream", upstream.getTag(), "priority", tag(priority))
+                        .register(meterRegistry);
+            }
+        }
+
+        private Mono<Void> acquire(CallPriority priority, AtomicBoolean granted) {
+            Waiter waiter;
+            synchronized (this) {
+                if (canDispatch(priority)) {
+                    inFlight.merge(priority, 1, Integer::sum);
+                    granted.set(true);
+                    return Mono.empty();
+                }
+                if (queues.get(priority).size() >= config.maxQueue(priority)) {
+                    return reject(priority, "queue_full");
+                }
+                waiter = new Waiter(priority, granted, Sinks.one());
+                queues.get(priority).add(waiter);
+            }
+
+            return waiter.sink().asMono()
+                    .timeout(config.maxWait(priority))
+                    .doOnCancel(() -> remove(waiter))
+                    .onErrorResume(TimeoutException.class, e -> {
+                        remove(waiter);
+                        return granted.get() ? Mono.empty() : reject(priority, "wait_timeout");
+                    });
+        }
+
+        private void release(CallPriority priority, CallSample sample) {
+            List<Waiter> dispatched = new ArrayList<>();
+            synchronized (this) {
+                adjustLimit(sample, totalInFlight());
+                inFlight.merge(priority, -1, Integer::sum);
+                for (CallPriority next : CallPriority.values()) {
+                    ArrayDeque<Waiter> queue = queues.get(next);
+                    while (!queue.isEmpty() && canDispatch(next)) {
+                        Waiter waiter = queue.poll();
+                        inFlight.merge(next, 1, Integer::sum);
+                        waiter.granted().set(true);
+                        dispatched.add(waiter);
+                    }
+                }
+            }
+            dispatched.forEach(waiter -> waiter.sink().tryEmitEmpty());
+        }
+
+        private synchronized void remove(Waiter waiter) {
+            queues.get(waiter.priority()).remove(waiter);
+        }
+
+        // 잠금 보유 중에만 호출
+        private void adjustLimit(CallSample sample, int inFlightBefore) {
+            if (!config.adaptive() || sample == CallSample.IGNORED) {
+                return;
+            }
+            if (!sample.overload()) {
+                if (++samplesSinceReset >= MIN_RTT_RESET_SAMPLES) {
+                    minRttNanos = sample.rttNanos();
+                    samplesSinceReset = 0;
+                } else {
+                    minRttNanos = Math.min(minRttNanos, sample.rttNanos());
+                }
+            }
+            if (sample.overload() || sample.rttNanos() > minRttNanos * config.latencyTolerance()) {
+                if (sample.dispatchedAt() - lastDecreaseAt >= 0) {
+                    limit = Math.max(config.minConcurrency(), limit * BACKOFF_RATIO);
+                    lastDecreaseAt = System.nanoTime();
+                }
+            } else if (inFlightBefore * 2 >= limit) {
+                limit = Math.min(config.maxConcurrency(), limit + 1.0 / limit);
+            }
+        }
+
+        // 잠금 보유 중에만 호출
+        private boolean canDispatch(CallPriority priority) {
+            int total = totalInFlight();
+            int currentLimit = config.adaptive() ? (int) limit : config.maxConcurrency();
+            if (total >= currentLimit) {
+                return false;
+            }
+            return priority == CallPriority.INTERACTIVE
+                    || (inFlight.get(CallPriority.BACKGROUND) < config.backgroundMaxConcurrency()
+                    && queues.get(CallPriority.INTERACTIVE).isEmpty());
+        }
+
+        private Mono<Void> reject(CallPriority priority, String reason) {
+            meterRegistry.counter("upstream.scheduler.rejected",
+                    "upstream", upstream.getTag(), "priority", tag(priority), "reason", reason).increment();
+            return Mono.error(new BusinessException(ErrorCode.UPSTREAM_BUSY));
+        }
+
+        private int totalInFlight() {
+            return inFlight.get(CallPriority.INTERACTIVE) + inFlight.get(CallPriority.BACKGROUND);
+        }
+
+        private synchronized double limit() {
+            return config.adaptive() ? limit : config.maxConcurrency();
+        }
+
+        private synchronized int inFlight(CallPriority priority) {
+            return inFlight.get(priority);
+        }
+
+        private synchronized int queued(CallPriority priority) {
+            return queues.get(priority).size();
+        }
+    }
+
+    private record CallSample(long dispatchedAt, long rttNanos, boolean overload) {
+        private static final CallSample IGNORED = new CallSample(0, -1, false);
+    }
+
+    private record Waiter(CallPriority priority, AtomicBoolean granted, Sinks.One<Void> sink) {
+    }
+}
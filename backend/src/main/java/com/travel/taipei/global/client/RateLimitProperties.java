@@ -0,0 +1,46 @@
+package com.travel.taipei.global.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Map;
+
+// 업스트림별 토큰 버킷, 설정이 없으면 제한 없음
+@ConfigurationProperties(prefix = "external.client.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        Map<String, Limit> limits
+) {
+    public RateLimitProperties {
+        limits = limits != null ? limits : Map.of();
+    }
+
+    public Limit limitFor(String upstream) {
+        return enabled ? limits.get(upstream) : null;
+    }
+
+    // dailyQuota 0이면 일일 할당량 미적용
+    public record Limit(
+            @DefaultValue("10") int capacity,
+            @DefaultValue("5") double refillPerSecond,
+            @DefaultValue("500ms") Duration maxWait,
+            @DefaultValue("20") int maxWaiters,
+            @DefaultValue("0") long dailyQuota,
+            @DefaultValue("UTC") ZoneId quotaZone,
+            @DefaultValue("0") int backgroundReservedTokens,
+            @DefaultValue("0") long backgroundReservedQuota
+    ) {
+        public int reservedTokens(CallPriority priority) {
+            return priority == CallPriority.BACKGROUND ? backgroundReservedTokens : 0;
+        }
+
+        public long quotaLimit(CallPriority priority) {
+            if (dailyQuota <= 0 || priority != CallPriority.BACKGROUND) {
+                return dailyQuota;
+            }
+            return Math.max(1, dailyQuota - backgroundReservedQuota);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.travel.taipei.global.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 헤징 지연 안에 끝나지 않은 멱등 조회를 한 번 더 보냄
+@Component
+public class RequestHedger {
+
+    // 예산 적립 상한
+    private static final double MAX_BUDGET = 10.0;
+
+    private final HedgingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public RequestHedger(HedgingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static RequestHedger disabled(MeterRegistry meterRegistry) {
+        return new RequestHedger(new HedgingProperties(false, 0.95, Duration.ofMillis(50), Duration.ofSeconds(2), 0.05, 50, 500),
+                meterRegistry);
+    }
+
+    // attempt는 구독마다 새 요청을 보내야 함
+    public <T> Mono<T> hedge(Upstream upstream, String endpoint, Mono<T> attempt) {
+        if (!properties.enabled()) {
+            return attempt;
+        }
+
+        Endpoint state = endpoints.computeIfAbsent(upstream.getTag() + ":" + endpoint, key -> new Endpoint(upstream, endpoint));
+        return Mono.defer(() -> {
+            state.earnBudget();
+            Duration delay = state.delay();
+            Mono<T> primary = state.timed(attempt);
+            if (delay == null) {
+                return primary;
+            }
+
+            AtomicBoolean hedgeSent = new AtomicBoolean();
+            AtomicReference<Throwable> firstError = new AtomicReference<>();
+            Mono<T> hedged = Mono.delay(delay)
+                    .flatMap(tick -> {
+                        if (!state.spendBudget()) {
+                            state.count("budget_exhausted");
+                            return Mono.<T>never();
+                        }
+                        state.count("sent");
+                        hedgeSent.set(true);
+                        return state.timed(attempt)
+                                .doOnNext(value -> state.count("won"))
+                                .onErrorResume(e -> firstError.compareAndSet(null, e) ? Mono.never() : Mono.error(e));
+                    });
+            Mono<T> original = primary.onErrorResume(e ->
+                    hedgeSent.get() && firstError.compareAndSet(null, e) ? Mono.never() : Mono.error(e));
+            return Mono.firstWithSignal(original, hedged);
+        });
+    }
+
+    private final class Endpoint {
+
+        private final Upstream upstream;
+        private final String endpoint;
+        private final long[] samples;
+        private int sampleCount;
+        private int next;
+        private double budget;
+
+        private Endpoint(Upstream upstream, String endpoint) {
+            this.upstream = upstream;
+            this.endpoint = endpoint;
+            this.samples = new long[properties.windowSize()];
+            Gauge.builder("upstream.hedge.delay", this, state -> {
+                        Duration delay = state.delay();
+                        return delay != null ? delay.toMillis() : Double.NaN;
+                    })
+                    .tags("upstream", upstream.getTag(), "endpoint", endpoint)
+                    .register(meterRegistry);
+        }
+
+        private <T> Mono<T> timed(Mono<T> attempt) {
+            return Mono.defer(() -> {
+                long start = System.nanoTime();
+                return attempt.doOnSuccess(value -> record(System.nanoTime() - start));
+            });
+        }
+
+        private synchronized void record(long elapsedNanos) {
+            samples[next] = elapsedNanos;
+            next = (next + 1) % samples.length;
+            sampleCount = Math.min(sampleCount + 1, samples.length);
+        }
+
+        private synchronized Duration delay() {
+            if (sampleCount < properties.minSamples()) {
+                return null;
+            }
+            long[] window = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(window);
+            int index = (int) Math.ceil(properties.quantile() * window.length) - 1;
+            Duration observed = Duration.ofNanos(window[Math.max(0, index)]);
+            if (observed.compareTo(properties.minDelay()) < 0) {
+                return properties.minDelay();
+            }
+            return observed.compareTo(properties.maxDelay()) > 0 ? properties.maxDelay() : observed;
+        }
+
+        private synchronized void earnBudget() {
+            budget = Math.min(MAX_BUDGET, budget + properties.budgetRatio());
+        }
+
+        private synchronized boolean spendBudget() {
+            if (budget < 1.0) {
+                return false;
+            }
+            budget -= 1.0;
+            return true;
+        }
+
+        private void count(String outcome) {
+            meterRegistry.counter("upstream.hedge",
+                    "upstream", upstream.getTag(), "endpoint", endpoint, "outcome", outcome).increment();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.travel.taipei.global.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Redis window 카운터로 클러스터 전체 재시도 비율 제한
+@Slf4j
+@Component
+public class RetryBudget {
+
+    // KEYS: 현재/직전 window 요청·재시도 수, ARGV: 요청 수, ratio, minRetries, TTL(초)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            local requests = redis.call('INCRBY', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            local retries = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local previousRequests = tonumber(redis.call('GET', KEYS[3]) or '0')
+            local previousRetries = tonumber(redis.call('GET', KEYS[4]) or '0')
+            local allowed = math.max(tonumber(ARGV[3]), (requests + previousRequests) * tonumber(ARGV[2]))
+            if retries + previousRetries + 1 > allowed then
+                return 0
+            end
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> FLUSH_SCRIPT = RedisScript.of("""
+            local requests = redis.call('INCRBY', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return requests
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RetryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Upstream, LongAdder> pendingRequests = new ConcurrentHashMap<>();
+
+    public RetryBudget(StringRedisTemplate redisTemplate, RetryBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static RetryBudget disabled(MeterRegistry meterRegistry) {
+        return new RetryBudget(null, new RetryBudgetProperties(false, 0.1, 10, Duration.ofSeconds(10)), meterRegistry);
+    }
+
+    public void recordRequest(Upstream upstream) {
+        if (properties.enabled()) {
+            pendingRequests.computeIfAbsent(upstream, key -> new LongAdder()).increment();
+        }
+    }
+
+    public Mono<Boolean> tryAcquire(Upstream upstream) {
+        if (!properties.enabled()) {
+            return Mono.just(true);
+        }
+        return Mono.fromCallable(() -> acquire(upstream))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Scheduled(fixedDelayString = "${external.client.retry-budget.flush-interval-ms:1000}")
+    public void flush() {
+        if (!properties.enabled()) {
+            return;
+        }
+        long window = currentWindow();
+        pendingRequests.forEach((upstream, pending) -> {
+            long delta = pending.sumThenReset();
+            if (delta == 0) {
+                return;
+            }
+            try {
+                redisTemplate.execute(FLUSH_SCRIPT, List.of(requestsKey(upstream, window)),
+                        String.valueOf(delta), String.valueOf(ttlSeconds()));
+            } catch (RuntimeException e) {
+                pending.add(delta);
+                log.warn("[RetryBudget] 요청 수 반영 실패 upstream={}", upstream.getTag(), e);
+            }
+        });
+    }
+
+    private boolean acquire(Upstream upstream) {
+        long window = currentWindow();
+        LongAdder pending = pendingRequests.computeIfAbsent(upstream, key -> new LongAdder());
+        long delta = pending.sumThenReset();
+        try {
+            Long allowed = redisTemplate.execute(
+                    ACQUIRE_SCRIPT,
+                    List.of(requestsKey(upstream, window), retriesKey(upstream, window),
+                            requestsKey(upstream, window - 1), retriesKey(upstream, window - 1)),
+                    String.valueOf(delta),
+                    String.valueOf(properties.ratio()),
+                    String.valueOf(properties.minRetries()),
+                    String.valueOf(ttlSeconds())
+            );
+            if (allowed == null) {
+                record(upstream, "unguarded");
+                return true;
+            }
+            boolean granted = allowed == 1L;
+            record(upstream, granted ? "allowed" : "exhausted");
+            return granted;
+        } catch (RuntimeException e) {
+            pending.add(delta);
+            log.warn("[RetryBudget] 재시도 예산 조회 실패, 재시도를 허용합니다. upstream={}", upstream.getTag(), e);
+            record(upstream, "unguarded");
+            return true;
+        }
+    }
+
+    private long currentWindow() {
+        return System.currentTimeMillis() / properties.window().toMillis();
+    }
+
+    private long ttlSeconds() {
+        return Math.max(1, properties.window().toSeconds() * 3);
+    }
+
+    private String requestsKey(Upstream upstream, long window) {
+        return "retrybudget:{" + upstream.getTag() + "}:requests:" + window;
+    }
+
+    private String retriesKey(Upstream upstream, long window) {
+        return "retrybudget:{" + upstream.getTag() + "}:retries:" + window;
+    }
+
+    private void record(Upstream upstream, String outcome) {
+        meterRegistry.counter("upstream.retry_budget", "upstream", upstream.getTag(), "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,16 @@
+package com.travel.taipei.global.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 최근 두 window 재시도 수가 max(minRetries, 요청 수 × ratio)를 넘으면 중단
+@ConfigurationProperties(prefix = "external.client.retry-budget")
+public record RetryBudgetProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.1") double ratio,
+        @DefaultValue("10") int minRetries,
+        @DefaultValue("10s") Duration window
+) {
+}
@@ -0,0 +1,16 @@
+package com.travel.taipei.global.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Upstream {
+
+    GOOGLE_PLACES("google-places"),
+    OPENWEATHER("openweather"),
+    KOREAEXIM("koreaexim"),
+    EXCHANGE_FALLBACK("open-er-api");
+
+    private final String tag;
+}
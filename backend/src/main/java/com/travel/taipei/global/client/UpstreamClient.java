@@ -0,0 +1,155 @@
+package com.travel.taipei.global.client;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 외부 API 호출 공통 경로
+@Component
+@RequiredArgsConstructor
+public class UpstreamClient {
+
+    private static final int MAX_RETRIES = 2;
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(300);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(2);
+    // 재시도에 필요한 최소 남은 시간
+    private static final Duration MIN_ATTEMPT_TIME = Duration.ofMillis(200);
+
+    private final MeterRegistry meterRegistry;
+    private final UpstreamRateLimiter rateLimiter;
+    private final OutboundCallScheduler scheduler;
+    private final RequestHedger hedger;
+    private final RetryBudget retryBudget;
+
+    public <T> T call(Upstream upstream, String endpoint, Mono<T> request) {
+        return exchange(upstream, endpoint, request).block();
+    }
+
+    public <T> Mono<T> exchange(Upstream upstream, String endpoint, Mono<T> request) {
+        return exchange(upstream, endpoint, request, false);
+    }
+
+    // 멱등 조회 전용
+    public <T> Mono<T> exchangeHedged(Upstream upstream, String endpoint, Mono<T> request) {
+        return exchange(upstream, endpoint, request, true);
+    }
+
+    private <T> Mono<T> exchange(Upstream upstream, String endpoint, Mono<T> request, boolean hedged) {
+        return Mono.deferContextual(context -> {
+            CallPriority priority = CallContext.priority(context);
+            Deadline deadline = CallContext.deadline(context);
+            AtomicInteger retries = new AtomicInteger();
+            AtomicReference<String> outcome = new AtomicReference<>("success");
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Runnable record = () -> sample.stop(Timer.builder("upstream.requests")
+                    .tags("upstream", upstream.getTag(), "endpoint", endpoint,
+                            "outcome", outcome.get(), "retries", String.valueOf(retries.get()))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            retryBudget.recordRequest(upstream);
+            Mono<T> attempt = rateLimiter.acquire(upstream, priority).then(scheduler.schedule(upstream, priority, request));
+            Mono<T> limited = (hedged ? hedger.hedge(upstream, endpoint, attempt) : attempt)
+                    .retryWhen(retrySpec(upstream, deadline, retries));
+            return withinDeadline(limited, deadline)
+                    .doOnError(e -> outcome.set(outcomeOf(e)))
+                    .onErrorMap(BusinessException.class, e -> e)
+                    .onErrorMap(e -> !(e instanceof BusinessException), e -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR))
+                    .doOnSuccess(value -> record.run())
+                    .doOnError(e -> record.run())
+                    .doOnCancel(() -> {
+                        outcome.set("cancelled");
+                        record.run();
+                    });
+        });
+    }
+
+    private static <T> Mono<T> withinDeadline(Mono<T> call, Deadline deadline) {
+        if (deadline == null) {
+            return call;
+        }
+        if (deadline.isExpired()) {
+            return Mono.error(new BusinessException(ErrorCode.EXTERNAL_API_TIMEOUT));
+        }
+        return call.timeout(deadline.remaining(), Mono.error(() -> new BusinessException(ErrorCode.EXTERNAL_API_TIMEOUT)));
+    }
+
+    // 마감 시각과 재시도 예산을 먼저 확인하는 백오프 재시도
+    private Retry retrySpec(Upstream upstream, Deadline deadline, AtomicInteger retries) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            if (!isRetryableError(failure) || signal.totalRetries() >= MAX_RETRIES) {
+                return Mono.error(failure);
+            }
+            Duration backoff = backoff(signal.totalRetries());
+            if (deadline != null && !deadline.allows(backoff.plus(MIN_ATTEMPT_TIME))) {
+                recordSkippedRetry(upstream, "deadline");
+                return Mono.error(failure);
+            }
+            return retryBudget.tryAcquire(upstream).flatMap(allowed -> {
+                if (!allowed) {
+                    recordSkippedRetry(upstream, "budget_exhausted");
+                    return Mono.error(failure);
+                }
+                retries.incrementAndGet();
+                return Mono.delay(backoff);
+            });
+        }));
+    }
+
+    private static Duration backoff(long attempt) {
+        long base = Math.min(MAX_BACKOFF.toMillis(), MIN_BACKOFF.toMillis() << attempt);
+        long jitter = ThreadLocalRandom.current().nextLong(-base / 2, base / 2 + 1);
+        return Duration.ofMillis(Math.max(MIN_BACKOFF.toMillis(), Math.min(MAX_BACKOFF.toMillis(), base + jitter)));
+    }
+
+    private void recordSkippedRetry(Upstream upstream, String reason) {
+        meterRegistry.counter("upstream.retry_skipped", "upstream", upstream.getTag(), "reason", reason).increment();
+    }
+
+    private static String outcomeOf(Throwable throwable) {
+        if (throwable instanceof BusinessException businessException) {
+            if (businessException.getErrorCode() == ErrorCode.EXTERNAL_API_TIMEOUT) {
+                return "deadline_exceeded";
+            }
+            if (businessException.getErrorCode() == ErrorCode.UPSTREAM_RATE_LIMITED) {
+                return "rate_limited";
+            }
+            if (businessException.getErrorCode() == ErrorCode.UPSTREAM_BUSY) {
+                return "busy";
+            }
+        }
+        if (throwable instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError() ? "server_error" : "client_error";
+        }
+        if (throwable instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (throwable instanceof WebClientRequestException) {
+            return "io_error";
+        }
+        return "error";
+    }
+
+    private static boolean isRetryableError(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().value() == 429
+                    || responseException.getStatusCode().is5xxServerError();
+        }
+
+        return throwable instanceof WebClientRequestException
+                || throwable instanceof TimeoutException;
+    }
+}
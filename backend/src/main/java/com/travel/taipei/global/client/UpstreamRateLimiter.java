@@ -0,0 +1,195 @@
+package com.travel.taipei.global.client;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 업스트림별 Redis 토큰 버킷과 일일 할당량
+@Slf4j
+@Component
+public class UpstreamRateLimiter {
+
+    // {대기 ms(0: 획득, -1: 할당량 소진), 남은 할당량(-1: 무제한)}
+    private static final RedisScript<List<Long>> ACQUIRE_SCRIPT = listScript("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local quota = tonumber(ARGV[3])
+            local quotaLimit = tonumber(ARGV[5])
+            local reserved = tonumber(ARGV[6])
+            local used = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if quota > 0 and used >= quotaLimit then
+                return {-1, quota - used}
+            end
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local wait = 0
+            if tokens >= 1 + reserved then
+                tokens = tokens - 1
+                used = redis.call('INCR', KEYS[2])
+                if used == 1 then
+                    redis.call('EXPIRE', KEYS[2], ARGV[4])
+                end
+            else
+                wait = math.ceil((1 + reserved - tokens) / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000)
+            if quota > 0 then
+                return {wait, quota - used}
+            end
+            return {wait, -1}
+            """);
+    private static final DateTimeFormatter QUOTA_DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final long QUOTA_TTL_SECONDS = 2 * 24 * 60 * 60L;
+    private static final long ACQUIRED = 0L;
+    private static final long QUOTA_EXHAUSTED = -1L;
+    private static final long UNGUARDED = -2L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> waiters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> remainingQuota = new ConcurrentHashMap<>();
+
+    public UpstreamRateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        properties.limits().forEach((upstream, limit) -> {
+            if (properties.enabled() && limit.dailyQuota() > 0) {
+                AtomicLong remaining = remainingQuota.computeIfAbsent(upstream, key -> new AtomicLong(limit.dailyQuota()));
+                Gauge.builder("upstream.quota.remaining", remaining, AtomicLong::get)
+                        .tag("upstream", upstream)
+                        .register(meterRegistry);
+            }
+        });
+    }
+
+    public static UpstreamRateLimiter disabled(MeterRegistry meterRegistry) {
+        return new UpstreamRateLimiter(null, new RateLimitProperties(false, Map.of()), meterRegistry);
+    }
+
+    public Mono<Void> acquire(Upstream upstream, CallPriority priority) {
+        RateLimitProperties.Limit limit = properties.limitFor(upstream.getTag());
+        if (limit == null) {
+            return Mono.empty();
+        }
+
+        return Mono.defer(() -> {
+            long deadline = System.nanoTime() + limit.maxWait().toNanos();
+            AtomicBoolean queued = new AtomicBoolean();
+            return attempt(upstream, priority, limit, deadline, queued)
+                    .doFinally(signal -> {
+                        if (queued.get()) {
+                            waitersOf(upstream).decrementAndGet();
+                        }
+                    });
+        });
+    }
+
+    private Mono<Void> attempt(
+            Upstream upstream,
+            CallPriority priority,
+            RateLimitProperties.Limit limit,
+            long deadline,
+            AtomicBoolean queued
+    ) {
+        return Mono.fromCallable(() -> tryAcquire(upstream, priority, limit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(waitMillis -> {
+                    if (waitMillis == UNGUARDED) {
+                        record(upstream, "unguarded");
+                        return Mono.empty();
+                    }
+                    if (waitMillis == ACQUIRED) {
+                        record(upstream, queued.get() ? "waited" : "acquired");
+                        return Mono.empty();
+                    }
+                    if (waitMillis == QUOTA_EXHAUSTED) {
+                        return reject(upstream, "quota_exhausted");
+                    }
+                    if (System.nanoTime() + Duration.ofMillis(waitMillis).toNanos() > deadline) {
+                        return reject(upstream, "rejected");
+                    }
+                    if (!queued.get()) {
+                        if (waitersOf(upstream).incrementAndGet() > limit.maxWaiters()) {
+                            waitersOf(upstream).decrementAndGet();
+                            return reject(upstream, "queue_full");
+                        }
+                        queued.set(true);
+                    }
+                    return Mono.delay(Duration.ofMillis(waitMillis))
+                            .then(Mono.defer(() -> attempt(upstream, priority, limit, deadline, queued)));
+                });
+    }
+
+    private long tryAcquire(Upstream upstream, CallPriority priority, RateLimitProperties.Limit limit) {
+        String tag = upstream.getTag();
+        String quotaDay = LocalDate.now(limit.quotaZone()).format(QUOTA_DAY);
+        try {
+            List<Long> result = redisTemplate.execute(
+                    ACQUIRE_SCRIPT,
+                    List.of("ratelimit:{" + tag + "}:bucket", "ratelimit:{" + tag + "}:quota:" + quotaDay),
+                    String.valueOf(limit.capacity()),
+                    String.valueOf(limit.refillPerSecond() / 1000.0),
+                    String.valueOf(limit.dailyQuota()),
+                    String.valueOf(QUOTA_TTL_SECONDS),
+                    String.valueOf(limit.quotaLimit(priority)),
+                    String.valueOf(limit.reservedTokens(priority))
+            );
+            if (result == null || result.size() < 2) {
+                return UNGUARDED;
+            }
+            long remaining = result.get(1);
+            AtomicLong gauge = remainingQuota.get(tag);
+            if (gauge != null && remaining >= 0) {
+                gauge.set(remaining);
+            }
+            return result.get(0);
+        } catch (RuntimeException e) {
+            log.warn("[UpstreamRateLimiter] 토큰 버킷 조회 실패, 제한 없이 호출합니다. upstream={}", tag, e);
+            return UNGUARDED;
+        }
+    }
+
+    // 배열 응답의 원소 타입 지정
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RedisScript<List<Long>> listScript(String script) {
+        return (RedisScript<List<Long>>) (RedisScript) RedisScript.of(script, List.class);
+    }
+
+    private Mono<Void> reject(Upstream upstream, String outcome) {
+        record(upstream, outcome);
+        return Mono.error(new BusinessException(ErrorCode.UPSTREAM_RATE_LIMITED));
+    }
+
+    private AtomicInteger waitersOf(Upstream upstream) {
+        return waiters.computeIfAbsent(upstream.getTag(), key -> new AtomicInteger());
+    }
+
+    private void record(Upstream upstream, String outcome) {
+        meterRegistry.counter("upstream.rate_limit", "upstream", upstream.getTag(), "outcome", outcome).increment();
+    }
+}
@@ -1,24 +1,54 @@
 package com.travel.taipei.global.config;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.travel.taipei.exchange.interfaces.dto.ExchangeRateResponse;
+import com.travel.taipei.global.cache.CacheSpecProperties;
+import com.travel.taipei.global.cache.CacheValueFormat;
+import com.travel.taipei.global.cache.CompressingRedisSerializer;
+import com.travel.taipei.global.cache.LayeredCacheManager;
+import com.travel.taipei.global.cache.NearCacheInvalidator;
+import com.travel.taipei.global.cache.TypedCacheValueSerializer;
+import com.travel.taipei.spot.domain.SpotPage;
+import com.travel.taipei.spot.interfaces.dto.SpotDetailResponse;
+import com.travel.taipei.weather.interfaces.dto.WeatherForecastItem;
+import com.travel.taipei.weather.interfaces.dto.WeatherResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 @Configuration
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class RedisConfig {
 
     @Bean
@@ -31,27 +61,96 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            CacheSpecProperties cacheSpecProperties,
+            MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") Executor refreshExecutor
+    ) {
+        RedisCacheManager redisCacheManager = redisCacheManager(connectionFactory, cacheSpecProperties, meterRegistry);
+        redisCacheManager.afterPropertiesSet();
+        return new LayeredCacheManager(
+                redisCacheManager,
+                cacheSpecProperties,
+                stringRedisTemplate,
+                meterRegistry,
+                refreshExecutor
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.near.enabled", havingValue = "true")
+    public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            CacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (cacheManager instanceof LayeredCacheManager layeredCacheManager && layeredCacheManager.getInvalidator() != null) {
+            container.addMessageListener(layeredCacheManager.getInvalidator(), new ChannelTopic(NearCacheInvalidator.CHANNEL));
+        }
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(
+            RedisConnectionFactory connectionFactory,
+            CacheSpecProperties cacheSpecProperties,
+            MeterRegistry meterRegistry
+    ) {
+        RedisSerializer<Object> jsonSerializer = new GenericJackson2JsonRedisSerializer(redisObjectMapper());
         RedisCacheConfiguration base = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer(redisObjectMapper())))
+                .serializeValuesWith(SerializationPair.fromSerializer(jsonSerializer))
                 .disableCachingNullValues();
 
+        ObjectMapper smileMapper = cacheSmileMapper();
+        Map<String, JavaType> valueTypes = cacheValueTypes(smileMapper.getTypeFactory());
+        Set<String> cacheNames = new HashSet<>(cacheSpecProperties.specs().keySet());
+        cacheNames.addAll(valueTypes.keySet());
+
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        for (String name : cacheNames) {
+            CacheSpecProperties.CacheSpec spec = cacheSpecProperties.specFor(name);
+            RedisCacheConfiguration config = base.entryTtl(spec.ttl().plus(cacheSpecProperties.staleGrace()));
+            JavaType valueType = valueTypes.get(name);
+            RedisSerializer<Object> valueSerializer = valueType != null && spec.format() == CacheValueFormat.SMILE
+                    ? new TypedCacheValueSerializer(smileMapper, valueType, jsonSerializer)
+                    : jsonSerializer;
+
+            CacheSpecProperties.Compression compression = cacheSpecProperties.compression();
+            if (compression.enabled()) {
+                valueSerializer = new CompressingRedisSerializer(
+                        name, valueSerializer, (int) compression.threshold().toBytes(), meterRegistry);
+            }
+            cacheConfigurations.put(name, config.serializeValuesWith(SerializationPair.fromSerializer(valueSerializer)));
+        }
+
         return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(base.entryTtl(Duration.ofMinutes(10)))
-                .withInitialCacheConfigurations(Map.of(
-                        "exchange-rates", base.entryTtl(Duration.ofHours(25)),
-                        "exchange-rates-backup", base.entryTtl(Duration.ofDays(7)),
-                        "weather",          base.entryTtl(Duration.ofMinutes(30)),
-                        "weather-backup",   base.entryTtl(Duration.ofHours(6)),
-                        "weather-forecast", base.entryTtl(Duration.ofHours(1)),
-                        "spots",          base.entryTtl(Duration.ofMinutes(10)),
-                        "spot-details",   base.entryTtl(Duration.ofMinutes(30))
-                ))
+                .cacheDefaults(base.entryTtl(CacheSpecProperties.CacheSpec.DEFAULT.ttl().plus(cacheSpecProperties.staleGrace())))
+                .withInitialCacheConfigurations(cacheConfigurations)
+                .build();
+    }
+
+    static Map<String, JavaType> cacheValueTypes(TypeFactory typeFactory) {
+        return Map.of(
+                "exchange-rates", typeFactory.constructType(ExchangeRateResponse.class),
+                "weather", typeFactory.constructType(WeatherResponse.class),
+                "weather-forecast", typeFactory.constructCollectionType(List.class, WeatherForecastItem.class),
+                "spots", typeFactory.constructType(SpotPage.class),
+                "spot-details", typeFactory.constructType(SpotDetailResponse.class)
+        );
+    }
+
+    static ObjectMapper cacheSmileMapper() {
+        return SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
                 .build();
     }
 
-    private ObjectMapper redisObjectMapper() {
+    static ObjectMapper redisObjectMapper() {
         return JsonMapper.builder()
                 .addModule(new JavaTimeModule())
                 .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
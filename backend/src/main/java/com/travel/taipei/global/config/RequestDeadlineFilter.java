@@ -0,0 +1,49 @@
+package com.travel.taipei.global.config;
+
+import com.travel.taipei.global.client.Deadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+// /api 요청마다 마감 시각을 묶음
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    @Value("${request.deadline-ms:10000}")
+    private long deadlineMs;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (Deadline.Scope ignored = Deadline.after(Duration.ofMillis(timeoutMs(request))).bind()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private long timeoutMs(HttpServletRequest request) {
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header == null || header.isBlank()) {
+            return deadlineMs;
+        }
+        try {
+            long requested = Long.parseLong(header.trim());
+            return requested > 0 ? Math.min(requested, deadlineMs) : deadlineMs;
+        } catch (NumberFormatException e) {
+            return deadlineMs;
+        }
+    }
+}
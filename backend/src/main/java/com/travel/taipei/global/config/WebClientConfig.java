@@ -1,33 +1,74 @@
 package com.travel.taipei.global.config;
 
+import com.travel.taipei.global.client.CallSchedulingProperties;
+import com.travel.taipei.global.client.ConnectionPoolProperties;
+import com.travel.taipei.global.client.HedgingProperties;
+import com.travel.taipei.global.client.RateLimitProperties;
+import com.travel.taipei.global.client.RetryBudgetProperties;
+import com.travel.taipei.global.client.Upstream;
 import io.netty.channel.ChannelOption;
-import io.netty.handler.ssl.SslContext;
-import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import javax.net.ssl.SSLException;
+import java.net.InetSocketAddress;
+import java.net.URI;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties({ConnectionPoolProperties.class, RateLimitProperties.class, CallSchedulingProperties.class,
+        HedgingProperties.class, RetryBudgetProperties.class})
 public class WebClientConfig {
 
+    // 업스트림 호스트별 커넥션 풀
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(
+            ConnectionPoolProperties poolProperties,
+            @Value("${external.google.places-url}") String placesUrl,
+            @Value("${external.weather.url}") String weatherUrl,
+            @Value("${external.exchange.url}") String exchangeUrl,
+            @Value("${external.exchange.fallback-url:https://open.er-api.com/v6/latest/KRW}") String exchangeFallbackUrl
+    ) {
+        Map<Upstream, String> upstreamUrls = new LinkedHashMap<>();
+        upstreamUrls.put(Upstream.GOOGLE_PLACES, placesUrl);
+        upstreamUrls.put(Upstream.OPENWEATHER, weatherUrl);
+        upstreamUrls.put(Upstream.KOREAEXIM, exchangeUrl);
+        upstreamUrls.put(Upstream.EXCHANGE_FALLBACK, exchangeFallbackUrl);
+
+        ConnectionProvider.Builder builder = configure(
+                ConnectionProvider.builder("upstream"),
+                poolProperties.poolFor(ConnectionPoolProperties.DEFAULT_POOL)
+        );
+        upstreamUrls.forEach((upstream, url) -> builder.forRemoteHost(
+                remoteAddress(url),
+                spec -> configure(spec, poolProperties.poolFor(upstream.getTag()))
+        ));
+        return builder.build();
+    }
+
     @Bean
     public WebClient webClient(
+            ConnectionProvider upstreamConnectionProvider,
             @Value("${external.client.connect-timeout-ms:3000}") int connectTimeoutMs,
             @Value("${external.client.response-timeout-ms:5000}") int responseTimeoutMs
-    ) throws SSLException {
-        SslContext sslContext = SslContextBuilder.forClient()
-                .trustManager(InsecureTrustManagerFactory.INSTANCE)
-                .build();
+    ) {
+        // ALPN으로 HTTP/2 협상, 미지원 시 HTTP/1.1
+        Http2SslContextSpec sslContextSpec = Http2SslContextSpec.forClient()
+                .configure(builder -> builder.trustManager(InsecureTrustManagerFactory.INSTANCE));
 
-        HttpClient httpClient = HttpClient.create()
-                .secure(spec -> spec.sslContext(sslContext))
+        HttpClient httpClient = HttpClient.create(upstreamConnectionProvider)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .secure(spec -> spec.sslContext(sslContextSpec))
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
                 .responseTimeout(Duration.ofMillis(responseTimeoutMs));
 
@@ -35,4 +76,20 @@ public class WebClientConfig {
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
+
+    private static <S extends ConnectionProvider.ConnectionPoolSpec<S>> S configure(S spec, ConnectionPoolProperties.Pool pool) {
+        return spec.maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .evictInBackground(pool.evictInterval())
+                .metrics(true);
+    }
+
+    private static InetSocketAddress remoteAddress(String url) {
+        URI uri = URI.create(url);
+        int port = uri.getPort() != -1 ? uri.getPort() : ("http".equalsIgnoreCase(uri.getScheme()) ? 80 : 443);
+        return InetSocketAddress.createUnresolved(uri.getHost(), port);
+    }
 }
@@ -19,8 +19,15 @@ public enum ErrorCode {
     SPOT_NOT_FOUND(HttpStatus.NOT_FOUND, "SP001", "장소 정보를 찾을 수 없습니다."),
     INVALID_SPOT_TYPE(HttpStatus.BAD_REQUEST, "SP002", "유효하지 않은 장소 유형입니다."),
 
+    // Batch
+    BATCH_ROUTE_NOT_FOUND(HttpStatus.NOT_FOUND, "BT001", "지원하지 않는 배치 요청 경로입니다."),
+    BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "BT002", "한 번에 보낼 수 있는 배치 요청 개수를 초과했습니다."),
+
     // External API
     EXTERNAL_API_ERROR(HttpStatus.BAD_GATEWAY, "EX001", "외부 API 호출에 실패했습니다."),
+    EXTERNAL_API_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "EX003", "외부 API 응답 시간이 초과되었습니다."),
+    UPSTREAM_RATE_LIMITED(HttpStatus.SERVICE_UNAVAILABLE, "EX004", "외부 API 호출 한도에 도달했습니다. 잠시 후 다시 시도해주세요."),
+    UPSTREAM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "EX005", "외부 API 요청이 밀려 있습니다. 잠시 후 다시 시도해주세요."),
 
     // Common
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "CM001", "잘못된 요청입니다.");
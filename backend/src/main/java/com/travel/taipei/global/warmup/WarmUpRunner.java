@@ -0,0 +1,175 @@
+package com.travel.taipei.global.warmup;
+
+import com.travel.taipei.exchange.application.ExchangeService;
+import com.travel.taipei.global.cache.MeteredCache;
+import com.travel.taipei.global.client.CallPriority;
+import com.travel.taipei.spot.application.SpotService;
+import com.travel.taipei.spot.domain.SpotType;
+import com.travel.taipei.weather.application.WeatherService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 워밍업이 끝날 때까지 readiness는 REFUSING_TRAFFIC
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final int DEFAULT_SPOT_RADIUS = 5000;
+
+    private final WebClient webClient;
+    private final WeatherService weatherService;
+    private final ExchangeService exchangeService;
+    private final SpotService spotService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${warmup.timeout:30s}")
+    private Duration timeout;
+
+    @Value("${warmup.jit-iterations:200}")
+    private int jitIterations;
+
+    @Value("${external.google.places-url}")
+    private String placesUrl;
+
+    @Value("${external.weather.url}")
+    private String weatherUrl;
+
+    @Value("${external.exchange.url}")
+    private String exchangeUrl;
+
+    @Value("${external.exchange.fallback-url:https://open.er-api.com/v6/latest/KRW}")
+    private String exchangeFallbackUrl;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("[WarmUpRunner] 워밍업 시작 timeout={}", timeout);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        String outcome;
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            runStep("connections", () -> preconnect(deadline));
+
+            Map<String, Runnable> cacheSteps = cacheSteps();
+            Map<String, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
+            cacheSteps.forEach((step, action) ->
+                    results.put(step, CompletableFuture.supplyAsync(() -> runStep(step, action), executor)));
+
+            CompletableFuture.allOf(results.values().toArray(CompletableFuture[]::new))
+                    .get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+
+            boolean allSucceeded = true;
+            for (Map.Entry<String, CompletableFuture<Boolean>> result : results.entrySet()) {
+                if (result.getValue().join()) {
+                    exercise(cacheSteps.get(result.getKey()), deadline);
+                } else {
+                    allSucceeded = false;
+                }
+            }
+            outcome = allSucceeded ? "success" : "partial";
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+        } catch (Exception e) {
+            log.warn("[WarmUpRunner] 워밍업 실패", e);
+            outcome = "failed";
+        } finally {
+            // 시간 초과 단계는 중단하지 않음
+            executor.shutdown();
+        }
+
+        long elapsedNanos = sample.stop(meterRegistry.timer("warmup.duration", "outcome", outcome));
+        log.info("[WarmUpRunner] 워밍업 종료 outcome={}, elapsed={}ms", outcome, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private Map<String, Runnable> cacheSteps() {
+        Map<String, Runnable> steps = new LinkedHashMap<>();
+        steps.put("weather", weatherService::getWeather);
+        steps.put("weather-forecast", weatherService::getForecast);
+        steps.put("exchange-rates", exchangeService::getExchangeRate);
+        for (SpotType type : SpotType.values()) {
+            steps.put("spots:" + type.name().toLowerCase(), () ->
+                    spotService.getSpots(type.name(), null, null, DEFAULT_SPOT_RADIUS, false, null));
+        }
+        return steps;
+    }
+
+    private void preconnect(long deadline) {
+        Flux.fromIterable(origins())
+                .flatMap(origin -> webClient.head()
+                        .uri(origin)
+                        .exchangeToMono(response -> response.releaseBody())
+                        .onErrorResume(e -> {
+                            log.warn("[WarmUpRunner] 사전 연결 실패 origin={}", origin, e);
+                            return Mono.empty();
+                        }))
+                .then()
+                .block(Duration.ofNanos(remainingNanos(deadline)));
+    }
+
+    private Set<URI> origins() {
+        Set<URI> origins = new LinkedHashSet<>();
+        for (String url : List.of(placesUrl, weatherUrl, exchangeUrl, exchangeFallbackUrl)) {
+            URI uri = URI.create(url);
+            origins.add(URI.create(uri.getScheme() + "://" + uri.getAuthority() + "/"));
+        }
+        return origins;
+    }
+
+    private boolean runStep(String step, Runnable action) {
+        try {
+            CallPriority.runInBackground(action);
+            meterRegistry.counter("warmup.steps", "step", step, "outcome", "success").increment();
+            return true;
+        } catch (RuntimeException e) {
+            meterRegistry.counter("warmup.steps", "step", step, "outcome", "failed").increment();
+            log.warn("[WarmUpRunner] 워밍업 단계 실패 step={}", step, e);
+            return false;
+        }
+    }
+
+    // 캐시가 채워진 단계만 반복, cache.* 지표에는 세지 않음
+    private void exercise(Runnable action, long deadline) {
+        try {
+            MeteredCache.runUnmetered(() -> {
+                for (int i = 0; i < jitIterations && System.nanoTime() < deadline; i++) {
+                    action.run();
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("[WarmUpRunner] JIT 워밍업 중단", e);
+        }
+    }
+
+    private long remainingNanos(long deadline) {
+        return Math.max(0L, deadline - System.nanoTime());
+    }
+}
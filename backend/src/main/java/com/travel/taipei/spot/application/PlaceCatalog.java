@@ -0,0 +1,258 @@
+package com.travel.taipei.spot.application;
+
+import com.travel.taipei.spot.domain.OpeningHours;
+import com.travel.taipei.spot.domain.Place;
+import com.travel.taipei.spot.domain.PlaceId;
+import com.travel.taipei.spot.domain.PlaceRepository;
+import com.travel.taipei.spot.domain.SpotSearchCriteria;
+import com.travel.taipei.spot.domain.SpotType;
+import com.travel.taipei.spot.infrastructure.SpotApiClient;
+import com.travel.taipei.spot.interfaces.dto.SpotResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Places 응답으로 채우는 장소 카탈로그
+@Slf4j
+@Component
+public class PlaceCatalog {
+
+    private final PlaceRepository placeRepository;
+    private final SpotApiClient spotApiClient;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final PlaceIndex index;
+    private final Duration maxAge;
+    private final Duration retention;
+    private final double maxCoverageRatio;
+    private final int maxResults;
+    private final Map<SpotType, Map<String, Coverage>> coverages = new EnumMap<>(SpotType.class);
+    private final Map<String, OpeningHours> openingHours = new ConcurrentHashMap<>();
+    private final Map<String, PendingSearch> pendingSearches = new ConcurrentHashMap<>();
+
+    public PlaceCatalog(
+            PlaceRepository placeRepository,
+            SpotApiClient spotApiClient,
+            MeterRegistry meterRegistry,
+            @Value("${spot.catalog.enabled:false}") boolean enabled,
+            @Value("${spot.catalog.cell-size-m:500}") int cellSizeMeters,
+            @Value("${spot.catalog.max-age:6h}") Duration maxAge,
+            @Value("${spot.catalog.retention:30d}") Duration retention,
+            @Value("${spot.catalog.max-coverage-ratio:3.0}") double maxCoverageRatio,
+            @Value("${spot.catalog.max-results:20}") int maxResults
+    ) {
+        this.placeRepository = placeRepository;
+        this.spotApiClient = spotApiClient;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.index = new PlaceIndex(cellSizeMeters);
+        this.maxAge = maxAge;
+        this.retention = retention;
+        this.maxCoverageRatio = maxCoverageRatio;
+        this.maxResults = maxResults;
+        for (SpotType type : SpotType.values()) {
+            coverages.put(type, new ConcurrentHashMap<>());
+        }
+        Gauge.builder("spot.catalog.places", index, PlaceIndex::size).register(meterRegistry);
+    }
+
+    // retention 안에 저장된 장소만 로드
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Place> places = placeRepository.findByUpdatedAtAfter(Instant.now().minus(retention));
+            places.forEach(place -> {
+                index.put(place.getType(), toSpotResponse(place));
+                if (place.getOpeningHours() != null) {
+                    openingHours.put(place.getPlaceId(), OpeningHours.decode(place.getOpeningHours()));
+                }
+            });
+            log.info("[PlaceCatalog] 장소 {}건을 인덱스에 올렸습니다.", places.size());
+        } catch (RuntimeException e) {
+            log.warn("[PlaceCatalog] 장소 카탈로그를 불러오지 못했습니다. 빈 인덱스로 시작합니다.", e);
+        }
+    }
+
+    // 요청 원을 덮는 최근 검색이 있으면 인덱스에서 응답
+    public Optional<List<SpotResponse>> findNearby(SpotType type, SpotSearchCriteria criteria) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        if (criteria.openNow() || !isCovered(type, criteria)) {
+            count("miss");
+            return Optional.empty();
+        }
+        count("hit");
+        return Optional.of(index.nearest(type, criteria.lat(), criteria.lng(), criteria.radius(), criteria.minRating(), maxResults));
+    }
+
+    // 끝까지 받은 무필터 검색만 coverage로 기록
+    public void record(SpotType type, SpotSearchCriteria searched, List<SpotResponse> spots, boolean complete) {
+        if (!enabled) {
+            return;
+        }
+        List<SpotResponse> located = spots.stream().filter(PlaceCatalog::hasLocation).toList();
+        located.forEach(spot -> index.put(type, spot));
+        persist(type, located);
+        if (searched.openNow() || searched.minRating() != null) {
+            return;
+        }
+        Instant now = Instant.now();
+        String searchKey = type + ":" + searched.cacheKey();
+        Set<String> seen = located.stream().map(SpotResponse::id).collect(Collectors.toCollection(HashSet::new));
+        PendingSearch earlierPages = pendingSearches.remove(searchKey);
+        if (earlierPages != null && !earlierPages.isExpired(now, maxAge)) {
+            seen.addAll(earlierPages.seen());
+        }
+        if (!complete) {
+            pendingSearches.put(searchKey, new PendingSearch(Set.copyOf(seen), now));
+            return;
+        }
+        pendingSearches.values().removeIf(pending -> pending.isExpired(now, maxAge));
+        Map<String, Coverage> typeCoverages = coverages.get(type);
+        typeCoverages.values().removeIf(coverage -> coverage.isExpired(now, maxAge));
+        typeCoverages.put(searched.cacheKey(), new Coverage(searched.lat(), searched.lng(), searched.radius(), now));
+        evict(type, index.retainWithin(type, searched.lat(), searched.lng(), searched.radius(), seen));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<OpeningHours> openingHours(String placeId) {
+        if (!enabled || placeId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(openingHours.get(placeId));
+    }
+
+    public boolean knowsHoursAround(SpotType type, SpotSearchCriteria criteria, int minKnown, double minShare) {
+        if (!enabled) {
+            return false;
+        }
+        List<SpotResponse> nearby = index.nearest(
+                type, criteria.lat(), criteria.lng(), criteria.radius(), criteria.minRating(), maxResults);
+        long known = nearby.stream().filter(spot -> openingHours.containsKey(spot.id())).count();
+        return !nearby.isEmpty() && known >= minKnown && known >= nearby.size() * minShare;
+    }
+
+    public void recordHours(String placeId, OpeningHours hours) {
+        if (enabled && placeId != null && hours != null) {
+            openingHours.put(placeId, hours);
+        }
+    }
+
+    private boolean isCovered(SpotType type, SpotSearchCriteria criteria) {
+        Instant now = Instant.now();
+        return coverages.get(type).values().stream()
+                .anyMatch(coverage -> !coverage.isExpired(now, maxAge)
+                        && coverage.radius() <= criteria.radius() * maxCoverageRatio
+                        && PlaceIndex.distanceMeters(coverage.lat(), coverage.lng(), criteria.lat(), criteria.lng())
+                        + criteria.radius() <= coverage.radius());
+    }
+
+    // 저장은 boundedElastic에서
+    private void persist(SpotType type, List<SpotResponse> spots) {
+        if (spots.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<Place> places = spots.stream()
+                .map(spot -> toPlace(type, spot, openingHours.get(spot.id()), now))
+                .toList();
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                placeRepository.saveAll(places);
+            } catch (RuntimeException e) {
+                log.warn("[PlaceCatalog] 장소 저장 실패 type={}, count={}", type, places.size(), e);
+            }
+        });
+    }
+
+    // 검색에서 빠진 장소 삭제
+    private void evict(SpotType type, List<String> placeIds) {
+        if (placeIds.isEmpty()) {
+            return;
+        }
+        List<PlaceId> ids = placeIds.stream().map(placeId -> new PlaceId(placeId, type)).toList();
+        meterRegistry.counter("spot.catalog.evictions").increment(ids.size());
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                placeRepository.deleteAllById(ids);
+            } catch (RuntimeException e) {
+                log.warn("[PlaceCatalog] 장소 삭제 실패 type={}, count={}", type, ids.size(), e);
+            }
+        });
+    }
+
+    private static boolean hasLocation(SpotResponse spot) {
+        return spot.id() != null && (spot.lat() != 0.0 || spot.lng() != 0.0);
+    }
+
+    private static Place toPlace(SpotType type, SpotResponse spot, OpeningHours hours, Instant now) {
+        return Place.builder()
+                .placeId(spot.id())
+                .type(type)
+                .name(spot.name())
+                .rating(spot.rating())
+                .address(spot.address())
+                .photoReference(SpotApiClient.photoReference(spot.photoUrl()))
+                .lat(spot.lat())
+                .lng(spot.lng())
+                .openingHours(hours != null ? hours.encode() : null)
+                .updatedAt(now)
+                .build();
+    }
+
+    private SpotResponse toSpotResponse(Place place) {
+        return new SpotResponse(
+                place.getPlaceId(),
+                place.getName(),
+                place.getType().name().toLowerCase(),
+                place.getRating(),
+                place.getAddress(),
+                spotApiClient.photoUrl(place.getPhotoReference()),
+                place.getLat(),
+                place.getLng(),
+                0.0,
+                null
+        );
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("spot.catalog.lookups", "outcome", outcome).increment();
+    }
+
+    private record PendingSearch(Set<String> seen, Instant recordedAt) {
+
+        private boolean isExpired(Instant now, Duration maxAge) {
+            return recordedAt.plus(maxAge).isBefore(now);
+        }
+    }
+
+    private record Coverage(double lat, double lng, int radius, Instant refreshedAt) {
+
+        private boolean isExpired(Instant now, Duration maxAge) {
+            return refreshedAt.plus(maxAge).isBefore(now);
+        }
+    }
+}
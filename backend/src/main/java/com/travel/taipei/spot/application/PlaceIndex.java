@@ -0,0 +1,142 @@
+package com.travel.taipei.spot.application;
+
+import com.travel.taipei.spot.domain.SpotType;
+import com.travel.taipei.spot.interfaces.dto.SpotResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 유형별 위경도 격자 버킷 인덱스
+public class PlaceIndex {
+
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    private static final double EARTH_RADIUS_M = 6_371_000.0;
+
+    private final double cellDegrees;
+    private final Map<SpotType, Map<Long, Map<String, SpotResponse>>> buckets = new EnumMap<>(SpotType.class);
+    private final Map<SpotType, Map<String, Long>> cellOf = new EnumMap<>(SpotType.class);
+
+    public PlaceIndex(int cellSizeMeters) {
+        this.cellDegrees = cellSizeMeters / METERS_PER_DEGREE_LAT;
+        for (SpotType type : SpotType.values()) {
+            buckets.put(type, new ConcurrentHashMap<>());
+            cellOf.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    public synchronized void put(SpotType type, SpotResponse spot) {
+        long cell = cell(spot.lat(), spot.lng());
+        Long previous = cellOf.get(type).put(spot.id(), cell);
+        if (previous != null && previous != cell) {
+            Map<String, SpotResponse> bucket = buckets.get(type).get(previous);
+            if (bucket != null) {
+                bucket.remove(spot.id());
+            }
+        }
+        buckets.get(type).computeIfAbsent(cell, key -> new ConcurrentHashMap<>()).put(spot.id(), spot);
+    }
+
+    public synchronized void remove(SpotType type, String id) {
+        Long cell = cellOf.get(type).remove(id);
+        if (cell != null) {
+            buckets.get(type).computeIfPresent(cell, (key, bucket) -> {
+                bucket.remove(id);
+                return bucket.isEmpty() ? null : bucket;
+            });
+        }
+    }
+
+    // 반경 안에서 keep에 없는 장소를 빼고 그 id를 반환
+    public synchronized List<String> retainWithin(SpotType type, double lat, double lng, int radiusMeters, Set<String> keep) {
+        List<String> removed = nearest(type, lat, lng, radiusMeters, null, Integer.MAX_VALUE).stream()
+                .map(SpotResponse::id)
+                .filter(id -> !keep.contains(id))
+                .toList();
+        removed.forEach(id -> remove(type, id));
+        return removed;
+    }
+
+    // 가까운 순(거리가 같으면 평점 순) 최대 limit개
+    public List<SpotResponse> nearest(SpotType type, double lat, double lng, int radiusMeters, Double minRating, int limit) {
+        Map<Long, Map<String, SpotResponse>> typeBuckets = buckets.get(type);
+        double latSpan = radiusMeters / METERS_PER_DEGREE_LAT;
+        double lngSpan = radiusMeters / (METERS_PER_DEGREE_LAT * Math.max(0.01, Math.cos(Math.toRadians(lat))));
+        long fromLat = index(lat - latSpan);
+        long toLat = index(lat + latSpan);
+        long fromLng = index(lng - lngSpan);
+        long toLng = index(lng + lngSpan);
+
+        List<Candidate> candidates = new ArrayList<>();
+        if ((toLat - fromLat + 1) * (toLng - fromLng + 1) > typeBuckets.size()) {
+            typeBuckets.values().forEach(bucket -> collect(bucket, lat, lng, radiusMeters, minRating, candidates));
+        } else {
+            for (long latIndex = fromLat; latIndex <= toLat; latIndex++) {
+                for (long lngIndex = fromLng; lngIndex <= toLng; lngIndex++) {
+                    Map<String, SpotResponse> bucket = typeBuckets.get(key(latIndex, lngIndex));
+                    if (bucket != null) {
+                        collect(bucket, lat, lng, radiusMeters, minRating, candidates);
+                    }
+                }
+            }
+        }
+
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(Candidate::distanceMeters)
+                        .thenComparing(candidate -> candidate.spot().rating(), Comparator.nullsLast(Comparator.reverseOrder())))
+                .limit(limit)
+                .map(Candidate::spot)
+                .toList();
+    }
+
+    public int size() {
+        return cellOf.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void collect(
+            Map<String, SpotResponse> bucket,
+            double lat,
+            double lng,
+            int radiusMeters,
+            Double minRating,
+            List<Candidate> candidates
+    ) {
+        for (SpotResponse spot : bucket.values()) {
+            if (minRating != null && (spot.rating() == null || spot.rating() < minRating)) {
+                continue;
+            }
+            double distance = distanceMeters(lat, lng, spot.lat(), spot.lng());
+            if (distance <= radiusMeters) {
+                candidates.add(new Candidate(spot, distance));
+            }
+        }
+    }
+
+    private long cell(double lat, double lng) {
+        return key(index(lat), index(lng));
+    }
+
+    private long index(double degrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long key(long latIndex, long lngIndex) {
+        return (latIndex << 32) ^ (lngIndex & 0xffffffffL);
+    }
+
+    static double distanceMeters(double fromLat, double fromLng, double toLat, double toLng) {
+        double latDistance = Math.toRadians(toLat - fromLat);
+        double lngDistance = Math.toRadians(toLng - fromLng);
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(fromLat)) * Math.cos(Math.toRadians(toLat))
+                * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
+        return EARTH_RADIUS_M * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private record Candidate(SpotResponse spot, double distanceMeters) {
+    }
+}
@@ -0,0 +1,301 @@
+package com.travel.taipei.spot.application;
+
+import com.travel.taipei.global.client.CallPriority;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.spot.domain.SpotSearchCriteria;
+import com.travel.taipei.spot.domain.SpotType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 새벽 Places 선검색으로 spots 캐시와 카탈로그를 채움
+@Slf4j
+@Component
+public class SpotPrefetchScheduler {
+
+    private static final ZoneId TAIPEI = ZoneId.of("Asia/Taipei");
+    private static final DateTimeFormatter PASS_DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    private static final String LOCK_KEY = "spot:prefetch:lock";
+    private static final String PROGRESS_KEY = "spot:prefetch:progress";
+    private static final String TILES_KEY = "spot:prefetch:tiles";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final SpotService spotService;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean gridEnabled;
+    private final int radius;
+    private final int batchSize;
+    private final Duration minInterval;
+    private final Duration cacheTtl;
+    private final LocalTime warmUntil;
+    private final int maxCallsPerPass;
+    private final List<SpotType> types;
+    private final List<Tile> tiles;
+    private final Map<String, AtomicLong> tileStates = Map.of(
+            "fresh", new AtomicLong(), "stale", new AtomicLong(), "missing", new AtomicLong());
+
+    public SpotPrefetchScheduler(
+            SpotService spotService,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spot.prefetch.enabled:false}") boolean enabled,
+            @Value("${spot.search.grid.enabled:false}") boolean gridEnabled,
+            @Value("${spot.search.grid.cell-size-m:300}") int cellSizeMeters,
+            @Value("${spot.prefetch.min-lat:25.02}") double minLat,
+            @Value("${spot.prefetch.max-lat:25.07}") double maxLat,
+            @Value("${spot.prefetch.min-lng:121.50}") double minLng,
+            @Value("${spot.prefetch.max-lng:121.58}") double maxLng,
+            @Value("${spot.prefetch.radius:5000}") int radius,
+            @Value("${spot.prefetch.types:RESTAURANT,CAFE,ATTRACTION}") String[] types,
+            @Value("${spot.prefetch.batch-size:40}") int batchSize,
+            @Value("${spot.prefetch.min-interval:500ms}") Duration minInterval,
+            @Value("${cache.specs.spots.ttl:22h}") Duration cacheTtl,
+            @Value("${spot.prefetch.warm-until:21:00}") String warmUntil,
+            @Value("${spot.prefetch.max-calls-per-pass:1200}") int maxCallsPerPass
+    ) {
+        this.spotService = spotService;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.gridEnabled = gridEnabled;
+        this.radius = radius;
+        this.batchSize = batchSize;
+        this.minInterval = minInterval;
+        this.cacheTtl = cacheTtl;
+        this.warmUntil = LocalTime.parse(warmUntil);
+        this.maxCallsPerPass = maxCallsPerPass;
+        this.types = Arrays.stream(types).map(SpotType::from).toList();
+        this.tiles = tile(cellSizeMeters, minLat, maxLat, minLng, maxLng);
+        tileStates.forEach((state, count) -> Gauge.builder("spot.prefetch.tiles", count, AtomicLong::get)
+                .tag("state", state)
+                .register(meterRegistry));
+    }
+
+    // 타이베이 01~06시, 2분 간격, 락을 잡은 노드만 실행
+    @Scheduled(cron = "${spot.prefetch.cron:0 */2 1-5 * * *}", zone = "Asia/Taipei")
+    public void crawl() {
+        if (!enabled) {
+            return;
+        }
+        if (!gridEnabled) {
+            log.warn("[SpotPrefetchScheduler] spot 검색 격자가 꺼져 있어 미리 채운 캐시를 쓸 수 없으므로 크롤링하지 않습니다.");
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        Boolean locked;
+        try {
+            locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL);
+        } catch (RuntimeException e) {
+            log.warn("[SpotPrefetchScheduler] 크롤링 락을 잡지 못해 이번 실행을 건너뜁니다.", e);
+            return;
+        }
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            CallPriority.runInBackground(this::crawlBatch);
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    // /actuator/spotprefetch 용
+    public List<TileStatus> status() {
+        Map<Object, Object> fetched = redisTemplate.opsForHash().entries(TILES_KEY);
+        long now = System.currentTimeMillis();
+        List<TileStatus> statuses = new ArrayList<>();
+        for (Tile tile : tiles) {
+            for (SpotType type : types) {
+                Object value = fetched.get(tileKey(tile, type));
+                Long fetchedAt = tileField(value, 0);
+                Long freshUntil = tileField(value, 1);
+                statuses.add(new TileStatus(tile.row(), tile.col(), type, tile.lat(), tile.lng(), fetchedAt, freshUntil,
+                        isFresh(freshUntil, now)));
+            }
+        }
+        return statuses;
+    }
+
+    void crawlBatch() {
+        String pass = LocalDate.now(TAIPEI).format(PASS_DAY);
+        Map<Object, Object> progress = redisTemplate.opsForHash().entries(PROGRESS_KEY);
+        boolean samePass = pass.equals(progress.get("pass"));
+        long total = (long) tiles.size() * types.size();
+        if (total == 0) {
+            return;
+        }
+        long previousStart = progressValue(progress, "start");
+        // 지난 pass가 멈춘 자리부터
+        long start = samePass ? previousStart : (previousStart + progressValue(progress, "next")) % total;
+        long next = samePass ? progressValue(progress, "next") : 0L;
+        long calls = samePass ? progressValue(progress, "calls") : 0L;
+        if (next >= total || calls >= maxCallsPerPass) {
+            return;
+        }
+
+        log.info("[SpotPrefetchScheduler] 크롤링 시작 pass={}, start={}, next={}/{}, calls={}", pass, start, next, total, calls);
+        Map<Object, Object> fetched = redisTemplate.opsForHash().entries(TILES_KEY);
+        int processed = 0;
+        while (next < total && processed < batchSize) {
+            if (calls >= maxCallsPerPass) {
+                log.info("[SpotPrefetchScheduler] 오늘 호출 예산을 다 써서 남은 셀은 다음 날로 미룹니다. calls={}, next={}/{}", calls, next, total);
+                break;
+            }
+            long position = (start + next) % total;
+            Tile tile = tiles.get((int) (position / types.size()));
+            SpotType type = types.get((int) (position % types.size()));
+            long now = System.currentTimeMillis();
+            if (isFresh(tileField(fetched.get(tileKey(tile, type)), 1), now)) {
+                record("skipped");
+                next++;
+                continue;
+            }
+            SpotSearchCriteria cellCriteria = SpotSearchCriteria.from(tile.lat(), tile.lng(), radius, false, null)
+                    .snapToGrid(tile.cellSizeMeters());
+            long freshUntil = Math.min(nextPeakEnd(now), now + cacheTtl.toMillis());
+            try {
+                calls += spotService.prefetch(type, cellCriteria, Instant.ofEpochMilli(freshUntil));
+                redisTemplate.opsForHash().put(TILES_KEY, tileKey(tile, type), now + "," + freshUntil);
+                record("fetched");
+            } catch (BusinessException e) {
+                if (e.getErrorCode() == ErrorCode.UPSTREAM_RATE_LIMITED || e.getErrorCode() == ErrorCode.UPSTREAM_BUSY) {
+                    record("deferred");
+                    log.info("[SpotPrefetchScheduler] 호출 한도에 걸려 다음 실행에서 이어 갑니다. next={}/{}", next, total);
+                    break;
+                }
+                calls++;
+                record("failed");
+                log.warn("[SpotPrefetchScheduler] 셀 검색 실패 tile={}, type={}", tileKey(tile, type), type, e);
+            }
+            next++;
+            processed++;
+            redisTemplate.opsForHash().putAll(PROGRESS_KEY, Map.of("pass", pass, "start", String.valueOf(start),
+                    "next", String.valueOf(next), "calls", String.valueOf(calls)));
+            if (!pause()) {
+                break;
+            }
+        }
+        refreshTileStates();
+        log.info("[SpotPrefetchScheduler] 크롤링 종료 processed={}, next={}/{}, calls={}", processed, next, total, calls);
+    }
+
+    // 다음 피크가 끝날 때까지 soft 만료되지 않으면 신선
+    private boolean isFresh(Long freshUntil, long now) {
+        return freshUntil != null && freshUntil >= nextPeakEnd(now);
+    }
+
+    private long nextPeakEnd(long now) {
+        ZonedDateTime current = Instant.ofEpochMilli(now).atZone(TAIPEI);
+        ZonedDateTime peakEnd = current.with(warmUntil);
+        if (peakEnd.isBefore(current)) {
+            peakEnd = peakEnd.plusDays(1);
+        }
+        return peakEnd.toInstant().toEpochMilli();
+    }
+
+    // "<검색 시각>,<soft 만료 시각>"(epoch millis)
+    private static Long tileField(Object value, int index) {
+        if (value == null) {
+            return null;
+        }
+        String[] fields = value.toString().split(",");
+        return index < fields.length ? Long.valueOf(fields[index]) : null;
+    }
+
+    private static long progressValue(Map<Object, Object> progress, String field) {
+        Object value = progress.get(field);
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(minInterval.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void refreshTileStates() {
+        long fresh = 0;
+        long stale = 0;
+        long missing = 0;
+        for (TileStatus status : status()) {
+            if (status.fetchedAt() == null) {
+                missing++;
+            } else if (status.fresh()) {
+                fresh++;
+            } else {
+                stale++;
+            }
+        }
+        tileStates.get("fresh").set(fresh);
+        tileStates.get("stale").set(stale);
+        tileStates.get("missing").set(missing);
+    }
+
+    // SpotSearchCriteria.snapToGrid와 같은 격자
+    static List<Tile> tile(int cellSizeMeters, double minLat, double maxLat, double minLng, double maxLng) {
+        double latStep = cellSizeMeters / METERS_PER_DEGREE_LAT;
+        List<Tile> tiles = new ArrayList<>();
+        long fromRow = (long) Math.floor(minLat / latStep);
+        long toRow = (long) Math.floor(maxLat / latStep);
+        for (long row = fromRow; row <= toRow; row++) {
+            double lat = (row + 0.5) * latStep;
+            double lngStep = cellSizeMeters / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(lat)));
+            long fromCol = (long) Math.floor(minLng / lngStep);
+            long toCol = (long) Math.floor(maxLng / lngStep);
+            for (long col = fromCol; col <= toCol; col++) {
+                tiles.add(new Tile(row, col, lat, (col + 0.5) * lngStep, cellSizeMeters));
+            }
+        }
+        return List.copyOf(tiles);
+    }
+
+    private static String tileKey(Tile tile, SpotType type) {
+        return type.name() + ":" + tile.row() + ":" + tile.col();
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("spot.prefetch.cells", "outcome", outcome).increment();
+    }
+
+    record Tile(long row, long col, double lat, double lng, int cellSizeMeters) {
+    }
+
+    public record TileStatus(
+            long row, long col, SpotType type, double lat, double lng, Long fetchedAt, Long freshUntil, boolean fresh) {
+    }
+}
@@ -1,26 +1,81 @@
 package com.travel.taipei.spot.application;
 
+import com.travel.taipei.global.cache.CacheLoading;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.spot.domain.OpeningHours;
+import com.travel.taipei.spot.domain.SpotDetails;
+import com.travel.taipei.spot.domain.SpotPage;
 import com.travel.taipei.spot.domain.SpotType;
 import com.travel.taipei.spot.domain.SpotSearchCriteria;
 import com.travel.taipei.spot.infrastructure.SpotApiClient;
 import com.travel.taipei.spot.interfaces.dto.SpotDetailResponse;
+import com.travel.taipei.spot.interfaces.dto.SpotPageResponse;
 import com.travel.taipei.spot.interfaces.dto.SpotResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SpotService {
 
+    private static final String CACHE_NAME = "spots";
+    private static final String DETAIL_CACHE_NAME = "spot-details";
+    private static final int MAX_PAGES = 3;
+    // spots 캐시 값 형식 버전
+    private static final String CACHE_KEY_VERSION = "v2";
+    private static final String UNKNOWN_HOURS_REASON = "영업시간 정보가 없어 방문 전 확인이 필요해요.";
+
     private final SpotApiClient spotApiClient;
+    private final CacheManager cacheManager;
+    private final PlaceCatalog placeCatalog;
+    // 진행 중인 페이지 검색
+    private final ConcurrentMap<String, Flux<SpotPage>> pageFetches = new ConcurrentHashMap<>();
+
+    @Value("${spot.search.grid.enabled:false}")
+    private boolean gridEnabled;
+
+    @Value("${spot.search.grid.cell-size-m:300}")
+    private int gridCellSizeMeters;
+
+    @Value("${spot.search.superset.enabled:false}")
+    private boolean supersetEnabled;
+
+    // 더 넓은 검색을 재사용할 최대 반경 배수
+    @Value("${spot.search.superset.max-radius-ratio:3.0}")
+    private double supersetMaxRadiusRatio;
+
+    @Value("${spot.search.local-hours.enabled:false}")
+    private boolean localHoursEnabled;
+
+    @Value("${spot.search.local-hours.min-results:5}")
+    private int localHoursMinResults;
+
+    @Value("${spot.search.local-hours.min-known-share:0.8}")
+    private double localHoursMinKnownShare;
+
+    @Value("${spot.prefetch.hours-per-cell:2}")
+    private int prefetchHoursPerCell;
 
-    @Cacheable(
-            value = "spots",
-            key = "#rawType.toUpperCase() + ':' + (#lat == null ? 25.0330 : #lat) + ':' + (#lng == null ? 121.5654 : #lng) + ':' + (#radius == null ? 5000 : #radius) + ':' + #openNow + ':' + (#minRating == null ? 'all' : #minRating)"
-    )
     public List<SpotResponse> getSpots(
             String rawType,
             Double lat,
@@ -28,14 +83,393 @@ public class SpotService {
             Integer radius,
             boolean openNow,
             Double minRating
+    ) {
+        return getSpots(rawType, lat, lng, radius, openNow, minRating, null);
+    }
+
+    // openAt·openNow는 가능하면 로컬 영업시간으로 필터
+    public List<SpotResponse> getSpots(
+            String rawType,
+            Double lat,
+            Double lng,
+            Integer radius,
+            boolean openNow,
+            Double minRating,
+            LocalTime openAt
     ) {
         SpotType spotType = SpotType.from(rawType);
         SpotSearchCriteria criteria = SpotSearchCriteria.from(lat, lng, radius, openNow, minRating);
-        return spotApiClient.searchNearby(spotType, criteria);
+        List<Instant> openTimes = openTimes(spotType, criteria, openAt);
+        if (openTimes.isEmpty()) {
+            return findSpots(spotType, criteria);
+        }
+        return filterOpen(findSpots(spotType, criteria.anyHours()), openTimes, openAt != null)
+                .orElseGet(() -> findSpots(spotType, criteria));
     }
 
-    @Cacheable(value = "spot-details", key = "#placeId + ':' + #type")
+    @Cacheable(value = "spot-details", key = "#placeId + ':' + #type", sync = true)
     public SpotDetailResponse getSpotDetail(String placeId, String type) {
-        return spotApiClient.getDetails(placeId, type);
+        SpotDetails details = spotApiClient.getDetails(placeId, type);
+        placeCatalog.recordHours(details.response().id(), details.openingHours());
+        return details.response();
+    }
+
+    public Mono<List<SpotResponse>> getSpotsAsync(
+            String rawType,
+            Double lat,
+            Double lng,
+            Integer radius,
+            boolean openNow,
+            Double minRating
+    ) {
+        return getSpotsAsync(rawType, lat, lng, radius, openNow, minRating, null);
+    }
+
+    public Mono<List<SpotResponse>> getSpotsAsync(
+            String rawType,
+            Double lat,
+            Double lng,
+            Integer radius,
+            boolean openNow,
+            Double minRating,
+            LocalTime openAt
+    ) {
+        return Mono.defer(() -> {
+            SpotType spotType = SpotType.from(rawType);
+            SpotSearchCriteria criteria = SpotSearchCriteria.from(lat, lng, radius, openNow, minRating);
+            List<Instant> openTimes = openTimes(spotType, criteria, openAt);
+            if (openTimes.isEmpty()) {
+                return findSpotsAsync(spotType, criteria);
+            }
+            return findSpotsAsync(spotType, criteria.anyHours())
+                    .flatMap(spots -> filterOpen(spots, openTimes, openAt != null)
+                            .map(Mono::just)
+                            .orElseGet(() -> findSpotsAsync(spotType, criteria)));
+        });
+    }
+
+    // 최대 3페이지, 뒤 페이지는 "<키>:page<n>"에 캐시
+    public Flux<SpotPageResponse> streamSpots(
+            String rawType,
+            Double lat,
+            Double lng,
+            Integer radius,
+            boolean openNow,
+            Double minRating,
+            int pages
+    ) {
+        return Flux.defer(() -> {
+            SpotType spotType = SpotType.from(rawType);
+            SpotSearchCriteria criteria = SpotSearchCriteria.from(lat, lng, radius, openNow, minRating);
+            SpotSearchCriteria searchCriteria = gridEnabled ? criteria.snapToGrid(gridCellSizeMeters) : criteria;
+            int maxPages = Math.max(1, Math.min(MAX_PAGES, pages));
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            String key = cacheKey(spotType, searchCriteria);
+            // 첫 페이지와 겹치는 장소 제외
+            Set<String> seen = ConcurrentHashMap.newKeySet();
+
+            return cachedPage(cache, key)
+                    .flatMapMany(first -> first.last()
+                            ? Flux.just(first)
+                            : Flux.concat(Mono.just(first), remainingPages(cache, spotType, searchCriteria, key, maxPages)))
+                    .switchIfEmpty(Flux.defer(() -> fetchPages(cache, spotType, searchCriteria, key, maxPages)))
+                    .map(SpotPage::spots)
+                    .map(spots -> gridEnabled ? spotApiClient.rerank(spots, criteria) : spots)
+                    .map(spots -> spots.stream().filter(spot -> spot.id() == null || seen.add(spot.id())).toList())
+                    .filter(spots -> !spots.isEmpty())
+                    .index((index, spots) -> new SpotPageResponse(index.intValue() + 1, spots));
+        });
+    }
+
+    public Mono<SpotDetailResponse> getSpotDetailAsync(String placeId, String type) {
+        return CacheLoading.getOrLoadAsync(
+                cacheManager.getCache(DETAIL_CACHE_NAME),
+                placeId + ":" + type,
+                () -> spotApiClient.getDetailsAsync(placeId, type)
+                        .doOnNext(details -> placeCatalog.recordHours(details.response().id(), details.openingHours()))
+                        .map(SpotDetails::response)
+        );
+    }
+
+    private List<SpotResponse> findSpots(SpotType spotType, SpotSearchCriteria criteria) {
+        Optional<List<SpotResponse>> local = placeCatalog.findNearby(spotType, criteria);
+        if (local.isPresent()) {
+            return spotApiClient.rerank(local.get(), criteria);
+        }
+
+        if (!gridEnabled) {
+            return search(spotType, criteria, supersetsOf(criteria));
+        }
+
+        // 셀 결과를 공유하고 실제 위치 기준으로 재정렬
+        SpotSearchCriteria cellCriteria = criteria.snapToGrid(gridCellSizeMeters);
+        return spotApiClient.rerank(search(spotType, cellCriteria, supersetsOf(criteria)), criteria);
+    }
+
+    private Mono<List<SpotResponse>> findSpotsAsync(SpotType spotType, SpotSearchCriteria criteria) {
+        Optional<List<SpotResponse>> local = placeCatalog.findNearby(spotType, criteria);
+        if (local.isPresent()) {
+            return Mono.just(spotApiClient.rerank(local.get(), criteria));
+        }
+        if (!gridEnabled) {
+            return searchAsync(spotType, criteria, supersetsOf(criteria));
+        }
+        return searchAsync(spotType, criteria.snapToGrid(gridCellSizeMeters), supersetsOf(criteria))
+                .map(spots -> spotApiClient.rerank(spots, criteria));
+    }
+
+    private List<Instant> openTimes(SpotType spotType, SpotSearchCriteria criteria, LocalTime openAt) {
+        List<Instant> openTimes = new ArrayList<>();
+        if (criteria.openNow() && (openAt != null || localHoursEnabled && placeCatalog.knowsHoursAround(
+                spotType, criteria.anyHours(), localHoursMinResults, localHoursMinKnownShare))) {
+            openTimes.add(Instant.now());
+        }
+        if (openAt != null) {
+            ZonedDateTime now = ZonedDateTime.now(OpeningHours.ZONE);
+            ZonedDateTime at = now.with(openAt);
+            openTimes.add((at.isBefore(now.truncatedTo(ChronoUnit.MINUTES)) ? at.plusDays(1) : at).toInstant());
+        }
+        return openTimes;
+    }
+
+    private Optional<List<SpotResponse>> filterOpen(List<SpotResponse> spots, List<Instant> openTimes, boolean includeUnknown) {
+        List<SpotResponse> open = new ArrayList<>();
+        List<SpotResponse> unknown = new ArrayList<>();
+        for (SpotResponse spot : spots) {
+            Optional<OpeningHours> hours = placeCatalog.openingHours(spot.id());
+            if (hours.isEmpty()) {
+                unknown.add(spot);
+                continue;
+            }
+            if (openTimes.stream().allMatch(hours.get()::isOpenAt)) {
+                open.add(spot);
+            }
+        }
+        if (includeUnknown) {
+            unknown.forEach(spot -> open.add(withReason(spot, UNKNOWN_HOURS_REASON)));
+            return Optional.of(open);
+        }
+        if (!unknown.isEmpty() && open.size() < localHoursMinResults) {
+            return Optional.empty();
+        }
+        return Optional.of(open);
+    }
+
+    private static SpotResponse withReason(SpotResponse spot, String reason) {
+        return new SpotResponse(spot.id(), spot.name(), spot.type(), spot.rating(), spot.address(), spot.photoUrl(),
+                spot.lat(), spot.lng(), spot.distanceKm(), reason);
+    }
+
+    // 셀 결과를 freshUntil까지 soft 만료되지 않게 기록
+    public int prefetch(SpotType spotType, SpotSearchCriteria cellCriteria, Instant freshUntil) {
+        SpotPage page = spotApiClient.searchNearby(spotType, cellCriteria);
+        int hourLookups = prefetchOpeningHours(page.spots());
+        placeCatalog.record(spotType, cellCriteria, page.spots(), page.last());
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            CacheLoading.putUntil(cache, cacheKey(spotType, cellCriteria), page, freshUntil);
+        }
+        return 1 + hourLookups;
+    }
+
+    private int prefetchOpeningHours(List<SpotResponse> spots) {
+        if (!placeCatalog.isEnabled()) {
+            return 0;
+        }
+        List<String> unknown = spots.stream()
+                .map(SpotResponse::id)
+                .filter(placeId -> placeId != null && placeCatalog.openingHours(placeId).isEmpty())
+                .limit(prefetchHoursPerCell)
+                .toList();
+        int lookups = 0;
+        for (String placeId : unknown) {
+            lookups++;
+            try {
+                spotApiClient.getOpeningHours(placeId).ifPresent(hours -> placeCatalog.recordHours(placeId, hours));
+            } catch (BusinessException e) {
+                log.info("[SpotService] 영업시간 조회를 다음 크롤링으로 미룹니다. placeId={}, code={}", placeId, e.getErrorCode());
+                break;
+            }
+        }
+        return lookups;
+    }
+
+    private Flux<SpotPage> remainingPages(
+            Cache cache,
+            SpotType spotType,
+            SpotSearchCriteria criteria,
+            String key,
+            int maxPages
+    ) {
+        return Flux.range(2, maxPages - 1)
+                .concatMap(page -> cachedPage(cache, pageKey(key, page))
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty()))
+                .collectList()
+                .flatMapMany(cached -> cached.stream().allMatch(Optional::isPresent)
+                        ? Flux.fromIterable(cached).map(Optional::get)
+                        : fetchPages(cache, spotType, criteria, key, maxPages).skip(1));
+    }
+
+    private Flux<SpotPage> fetchPages(
+            Cache cache,
+            SpotType spotType,
+            SpotSearchCriteria criteria,
+            String key,
+            int maxPages
+    ) {
+        String flightKey = key + ":pages" + maxPages;
+        return Flux.defer(() -> pageFetches.computeIfAbsent(flightKey, ignored ->
+                spotApiClient.searchNearbyPagesAsync(spotType, criteria, maxPages)
+                        .doOnNext(page -> {
+                            placeCatalog.record(spotType, criteria, page.spots(), page.last());
+                            putPage(cache, page.number() == 1 ? key : pageKey(key, page.number()), page);
+                            if (page.last()) {
+                                for (int next = page.number() + 1; next <= maxPages; next++) {
+                                    putPage(cache, pageKey(key, next), new SpotPage(next, List.of(), true));
+                                }
+                            }
+                        })
+                        .doFinally(signal -> pageFetches.remove(flightKey))
+                        .cache()));
+    }
+
+    private Mono<SpotPage> cachedPage(Cache cache, String key) {
+        if (cache == null) {
+            return Mono.empty();
+        }
+        return cachedResult(cache, key)
+                .onErrorResume(e -> {
+                    log.warn("[SpotService] 페이지 캐시 조회 실패 key={}", key, e);
+                    return Mono.empty();
+                });
+    }
+
+    // Redis 쓰기는 boundedElastic에서
+    private void putPage(Cache cache, String key, SpotPage page) {
+        if (cache == null) {
+            return;
+        }
+        Schedulers.boundedElastic().schedule(() -> {
+            try {
+                cache.put(key, page);
+            } catch (RuntimeException e) {
+                log.warn("[SpotService] 페이지 캐시 저장 실패 key={}", key, e);
+            }
+        });
+    }
+
+    private static String pageKey(String key, int page) {
+        return key + ":page" + page;
+    }
+
+    // 미스면 더 넓은 검색의 캐시를 먼저 찾음
+    private Mono<List<SpotResponse>> searchAsync(
+            SpotType spotType,
+            SpotSearchCriteria criteria,
+            List<SpotSearchCriteria> supersets
+    ) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        return CacheLoading.getOrLoadAsync(
+                        cache,
+                        cacheKey(spotType, criteria),
+                        () -> findSupersetAsync(cache, spotType, criteria, supersets)
+                                .map(wider -> narrow(wider, criteria))
+                                .switchIfEmpty(Mono.defer(() -> spotApiClient.searchNearbyAsync(spotType, criteria)
+                                        .doOnNext(page -> placeCatalog.record(spotType, criteria, page.spots(), page.last()))))
+                )
+                .map(SpotPage::spots);
+    }
+
+    private List<SpotResponse> search(SpotType spotType, SpotSearchCriteria criteria, List<SpotSearchCriteria> supersets) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        return CacheLoading.getOrLoad(
+                cache,
+                cacheKey(spotType, criteria),
+                () -> findSuperset(cache, spotType, criteria, supersets)
+                        .map(wider -> narrow(wider, criteria))
+                        .orElseGet(() -> {
+                            SpotPage page = spotApiClient.searchNearby(spotType, criteria);
+                            placeCatalog.record(spotType, criteria, page.spots(), page.last());
+                            return page;
+                        })
+        ).spots();
+    }
+
+    private SpotPage narrow(SpotPage wider, SpotSearchCriteria criteria) {
+        return new SpotPage(1, spotApiClient.rerank(wider.spots(), criteria), wider.last());
+    }
+
+    // 요청을 덮는 더 넓은 검색 조건
+    private List<SpotSearchCriteria> supersetsOf(SpotSearchCriteria criteria) {
+        if (!supersetEnabled) {
+            return List.of();
+        }
+        List<SpotSearchCriteria> widenings = criteria.widenings((int) (criteria.radius() * supersetMaxRadiusRatio));
+        if (!gridEnabled) {
+            return widenings;
+        }
+        SpotSearchCriteria cellCriteria = criteria.snapToGrid(gridCellSizeMeters);
+        return widenings.stream()
+                .map(wider -> wider.snapToGrid(gridCellSizeMeters))
+                .filter(wider -> !wider.equals(cellCriteria))
+                .distinct()
+                .toList();
+    }
+
+    // 끝까지 받은 결과만 좁혀 씀
+    private static boolean isReusable(SpotPage cached, SpotSearchCriteria wider, SpotSearchCriteria criteria) {
+        return cached.last() || wider.radius() <= criteria.radius();
+    }
+
+    private Optional<SpotPage> findSuperset(
+            Cache cache,
+            SpotType spotType,
+            SpotSearchCriteria criteria,
+            List<SpotSearchCriteria> supersets
+    ) {
+        if (cache == null) {
+            return Optional.empty();
+        }
+        for (SpotSearchCriteria wider : supersets) {
+            try {
+                SpotPage cached = cache.get(cacheKey(spotType, wider), SpotPage.class);
+                if (cached != null && isReusable(cached, wider, criteria)) {
+                    return Optional.of(cached);
+                }
+            } catch (RuntimeException e) {
+                log.warn("[SpotService] 상위 검색 캐시 조회 실패 key={}", cacheKey(spotType, wider), e);
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Mono<SpotPage> findSupersetAsync(
+            Cache cache,
+            SpotType spotType,
+            SpotSearchCriteria criteria,
+            List<SpotSearchCriteria> supersets
+    ) {
+        if (cache == null) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(supersets)
+                .concatMap(wider -> cachedResult(cache, cacheKey(spotType, wider))
+                        .filter(cached -> isReusable(cached, wider, criteria)))
+                .next()
+                .onErrorResume(e -> {
+                    log.warn("[SpotService] 상위 검색 캐시 조회 실패 type={}", spotType, e);
+                    return Mono.empty();
+                });
+    }
+
+    private static Mono<SpotPage> cachedResult(Cache cache, String key) {
+        return Mono.fromFuture(() -> CacheLoading.retrieveWrapper(cache, key))
+                .mapNotNull(wrapper -> (SpotPage) wrapper.get());
+    }
+
+    private String cacheKey(SpotType spotType, SpotSearchCriteria criteria) {
+        return spotType.name() + ":" + CACHE_KEY_VERSION + ":" + criteria.cacheKey();
     }
 }
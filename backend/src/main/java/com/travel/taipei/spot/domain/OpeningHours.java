@@ -0,0 +1,87 @@
+package com.travel.taipei.spot.domain;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 주 단위 분 구간 [start, end) 목록 (일요일 00:00 = 0)
+public record OpeningHours(List<Interval> intervals) {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Taipei");
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    public OpeningHours {
+        intervals = List.copyOf(intervals);
+    }
+
+    public static OpeningHours none() {
+        return new OpeningHours(List.of());
+    }
+
+    public static OpeningHours alwaysOpen() {
+        return new OpeningHours(List.of(new Interval(0, MINUTES_PER_WEEK)));
+    }
+
+    // Places periods → 주 단위 분
+    public static int minuteOfWeek(int day, String time) {
+        int hour = Integer.parseInt(time.substring(0, 2));
+        int minute = Integer.parseInt(time.substring(2, 4));
+        return day * MINUTES_PER_DAY + hour * 60 + minute;
+    }
+
+    // 주를 넘어가는 구간은 둘로 나눔
+    public static OpeningHours weekly(List<Interval> periods) {
+        List<Interval> intervals = new ArrayList<>();
+        for (Interval period : periods) {
+            if (period.end() > period.start()) {
+                intervals.add(period);
+            } else {
+                intervals.add(new Interval(period.start(), MINUTES_PER_WEEK));
+                if (period.end() > 0) {
+                    intervals.add(new Interval(0, period.end()));
+                }
+            }
+        }
+        intervals.sort(Comparator.comparingInt(Interval::start));
+        return new OpeningHours(intervals);
+    }
+
+    public boolean isOpenAt(Instant at) {
+        ZonedDateTime local = at.atZone(ZONE);
+        int minute = local.getDayOfWeek().getValue() % 7 * MINUTES_PER_DAY + local.getHour() * 60 + local.getMinute();
+        return intervals.stream().anyMatch(interval -> interval.start() <= minute && minute < interval.end());
+    }
+
+    public String encode() {
+        StringBuilder encoded = new StringBuilder();
+        for (Interval interval : intervals) {
+            if (!encoded.isEmpty()) {
+                encoded.append(',');
+            }
+            encoded.append(interval.start()).append('-').append(interval.end());
+        }
+        return encoded.toString();
+    }
+
+    public static OpeningHours decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return none();
+        }
+        List<Interval> intervals = new ArrayList<>();
+        for (String range : encoded.split(",")) {
+            int separator = range.indexOf('-');
+            intervals.add(new Interval(
+                    Integer.parseInt(range.substring(0, separator)),
+                    Integer.parseInt(range.substring(separator + 1))
+            ));
+        }
+        return new OpeningHours(intervals);
+    }
+
+    public record Interval(int start, int end) {
+    }
+}
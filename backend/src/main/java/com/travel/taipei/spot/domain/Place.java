@@ -0,0 +1,68 @@
+package com.travel.taipei.spot.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// 로컬 장소 카탈로그 행
+@Getter
+@Entity
+@IdClass(PlaceId.class)
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "place",
+        indexes = {
+                @Index(name = "idx_place_type", columnList = "type"),
+                @Index(name = "idx_place_updated_at", columnList = "updated_at")
+        }
+)
+public class Place {
+
+    @Id
+    @Column(name = "place_id", length = 255)
+    private String placeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private SpotType type;
+
+    @Column(nullable = false, length = 200)
+    private String name;
+
+    private Double rating;
+
+    @Column(length = 300)
+    private String address;
+
+    // API 키가 든 URL 대신 photo_reference만 저장
+    @Column(name = "photo_reference", length = 1000)
+    private String photoReference;
+
+    @Column(nullable = false)
+    private double lat;
+
+    @Column(nullable = false)
+    private double lng;
+
+    // null이면 영업시간 모름
+    @Column(name = "opening_hours", length = 1000)
+    private String openingHours;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.travel.taipei.spot.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// 같은 장소도 유형마다 한 행
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlaceId implements Serializable {
+
+    private String placeId;
+    private SpotType type;
+}
@@ -0,0 +1,11 @@
+package com.travel.taipei.spot.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PlaceRepository extends JpaRepository<Place, PlaceId> {
+
+    List<Place> findByUpdatedAtAfter(Instant cutoff);
+}
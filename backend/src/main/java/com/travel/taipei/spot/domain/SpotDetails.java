@@ -0,0 +1,7 @@
+package com.travel.taipei.spot.domain;
+
+import com.travel.taipei.spot.interfaces.dto.SpotDetailResponse;
+
+// openingHours가 null이면 영업시간 모름
+public record SpotDetails(SpotDetailResponse response, OpeningHours openingHours) {
+}
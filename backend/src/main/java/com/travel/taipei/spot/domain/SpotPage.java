@@ -0,0 +1,9 @@
+package com.travel.taipei.spot.domain;
+
+import com.travel.taipei.spot.interfaces.dto.SpotResponse;
+
+import java.util.List;
+
+// last: 원 안의 검색 결과 마지막 페이지
+public record SpotPage(int number, List<SpotResponse> spots, boolean last) {
+}
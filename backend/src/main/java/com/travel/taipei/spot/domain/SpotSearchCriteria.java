@@ -3,7 +3,10 @@ package com.travel.taipei.spot.domain;
 import com.travel.taipei.global.exception.BusinessException;
 import com.travel.taipei.global.exception.ErrorCode;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
 public record SpotSearchCriteria(
         double lat,
@@ -17,6 +20,9 @@ public record SpotSearchCriteria(
     private static final int DEFAULT_RADIUS = 5000;
     private static final int MIN_RADIUS = 1;
     private static final int MAX_RADIUS = 50000;
+    private static final int[] RADIUS_BUCKETS = {500, 1000, 2000, 5000, 10000, 20000, MAX_RADIUS};
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    private static final double MAX_RATING_WIDENING = 1.0;
 
     public static SpotSearchCriteria from(
             Double lat,
@@ -34,6 +40,54 @@ public record SpotSearchCriteria(
         return new SpotSearchCriteria(resolvedLat, resolvedLng, resolvedRadius, openNow, minRating);
     }
 
+    // 셀 중심으로 스냅하고 셀 전체를 덮도록 반경 확장
+    public SpotSearchCriteria snapToGrid(int cellSizeMeters) {
+        double latStep = cellSizeMeters / METERS_PER_DEGREE_LAT;
+        double cellLat = clamp((Math.floor(lat / latStep) + 0.5) * latStep, -90.0, 90.0);
+        double lngStep = cellSizeMeters / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(cellLat)));
+        double cellLng = clamp((Math.floor(lng / lngStep) + 0.5) * lngStep, -180.0, 180.0);
+        int halfDiagonal = (int) Math.ceil(cellSizeMeters * Math.sqrt(2) / 2);
+        int coverRadius = Math.min(MAX_RADIUS, radiusBucket(radius) + halfDiagonal);
+
+        return new SpotSearchCriteria(cellLat, cellLng, coverRadius, openNow, null);
+    }
+
+    // 영업 여부 조건을 뺀 조회 키
+    public SpotSearchCriteria anyHours() {
+        return new SpotSearchCriteria(lat, lng, radius, false, minRating);
+    }
+
+    // 걸러서 이 조건을 만들 수 있는 더 넓은 조건(가까운 순)
+    public List<SpotSearchCriteria> widenings(int maxRadius) {
+        List<Integer> radii = new ArrayList<>();
+        radii.add(radius);
+        for (int bucket : RADIUS_BUCKETS) {
+            if (bucket > radius && bucket <= maxRadius) {
+                radii.add(bucket);
+            }
+        }
+
+        List<Double> ratings = new ArrayList<>();
+        ratings.add(minRating);
+        if (minRating != null) {
+            double weaker = Math.ceil(minRating * 2 - 1) / 2;
+            for (; weaker >= Math.max(0.0, minRating - MAX_RATING_WIDENING); weaker -= 0.5) {
+                ratings.add(weaker);
+            }
+            ratings.add(null);
+        }
+
+        List<SpotSearchCriteria> widenings = new ArrayList<>();
+        for (int widerRadius : radii) {
+            for (Double weakerRating : ratings) {
+                if (widerRadius != radius || !Objects.equals(weakerRating, minRating)) {
+                    widenings.add(new SpotSearchCriteria(lat, lng, widerRadius, openNow, weakerRating));
+                }
+            }
+        }
+        return widenings;
+    }
+
     public String cacheKey() {
         String ratingKey = minRating != null
                 ? String.format(Locale.ROOT, "%.1f", minRating)
@@ -49,6 +103,19 @@ public record SpotSearchCriteria(
         );
     }
 
+    private static int radiusBucket(int radius) {
+        for (int bucket : RADIUS_BUCKETS) {
+            if (radius <= bucket) {
+                return bucket;
+            }
+        }
+        return MAX_RADIUS;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
     private static void validate(double lat, double lng, int radius, Double minRating) {
         if (lat < -90.0 || lat > 90.0) {
             throw new BusinessException(ErrorCode.INVALID_INPUT);
@@ -2,33 +2,40 @@ package com.travel.taipei.spot.infrastructure;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.travel.taipei.global.client.Upstream;
+import com.travel.taipei.global.client.UpstreamClient;
 import com.travel.taipei.global.exception.BusinessException;
 import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.spot.domain.OpeningHours;
+import com.travel.taipei.spot.domain.SpotDetails;
+import com.travel.taipei.spot.domain.SpotPage;
 import com.travel.taipei.spot.domain.SpotSearchCriteria;
 import com.travel.taipei.spot.domain.SpotType;
 import com.travel.taipei.spot.interfaces.dto.SpotDetailResponse;
 import com.travel.taipei.spot.interfaces.dto.SpotResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.TimeoutException;
+import java.util.Optional;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class SpotApiClient {
 
     private final WebClient webClient;
+    private final UpstreamClient upstreamClient;
 
     @Value("${external.google.places-api-key}")
     private String apiKey;
@@ -37,28 +44,136 @@ public class SpotApiClient {
     private String placesUrl;
 
     private static final double EARTH_RADIUS_KM = 6371.0;
-    private static final Retry RETRY_SPEC = Retry.backoff(2, Duration.ofMillis(300))
-            .maxBackoff(Duration.ofSeconds(2))
-            .filter(SpotApiClient::isRetryableError);
+    // next_page_token 활성화 대기 시간
+    private static final Duration PAGE_TOKEN_DELAY = Duration.ofSeconds(2);
+    private static final int PAGE_TOKEN_RETRIES = 2;
+    // Nearby Search 최대 결과 수(20건 × 3페이지)
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_RESULTS = 60;
     private static final Comparator<SpotResponse> DISTANCE_RATING_COMPARATOR = Comparator
             .comparingDouble(SpotResponse::distanceKm)
             .thenComparing(SpotResponse::rating, Comparator.nullsLast(Comparator.reverseOrder()));
 
-    public List<SpotResponse> searchNearby(SpotType spotType, SpotSearchCriteria criteria) {
-        String uri = buildNearbySearchUri(spotType, criteria);
+    // 첫 페이지만 검색
+    public SpotPage searchNearby(SpotType spotType, SpotSearchCriteria criteria) {
+        return searchNearbyAsync(spotType, criteria).block();
+    }
+
+    public Mono<SpotPage> searchNearbyAsync(SpotType spotType, SpotSearchCriteria criteria) {
+        return searchPage(spotType, criteria, 1, buildNearbySearchUri(spotType, criteria))
+                .map(SpotApiClient::toSpotPage);
+    }
+
+    // next_page_token을 따라 최대 maxPages 페이지
+    public Flux<SpotPage> searchNearbyPagesAsync(SpotType spotType, SpotSearchCriteria criteria, int maxPages) {
+        return searchPage(spotType, criteria, 1, buildNearbySearchUri(spotType, criteria))
+                .expand(page -> page.nextPageToken() == null || page.number() >= maxPages
+                        ? Mono.empty()
+                        : Mono.delay(PAGE_TOKEN_DELAY).then(
+                                searchPage(spotType, criteria, page.number() + 1, buildPageTokenUri(page.nextPageToken()))
+                                        .retryWhen(Retry.fixedDelay(PAGE_TOKEN_RETRIES, Duration.ofSeconds(1))
+                                                .filter(PageTokenNotReadyException.class::isInstance)
+                                                .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                                        .onErrorResume(PageTokenNotReadyException.class, e -> Mono.empty())))
+                .map(SpotApiClient::toSpotPage);
+    }
 
-        NearbySearchResponse response = webClient.get()
+    private static SpotPage toSpotPage(NearbyPage page) {
+        boolean capped = (page.number() - 1) * PAGE_SIZE + page.resultCount() >= MAX_RESULTS;
+        return new SpotPage(page.number(), page.spots(), page.nextPageToken() == null && !capped);
+    }
+
+    private Mono<NearbyPage> searchPage(SpotType spotType, SpotSearchCriteria criteria, int number, String uri) {
+        Mono<NearbySearchResponse> request = webClient.get()
                 .uri(uri)
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, res ->
                         res.createException().flatMap(Mono::error))
-                .bodyToMono(NearbySearchResponse.class)
-                .retryWhen(RETRY_SPEC)
-                .onErrorMap(BusinessException.class, e -> e)
-                .onErrorMap(e -> !(e instanceof BusinessException), e -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR))
-                .block();
+                .bodyToMono(NearbySearchResponse.class);
+        // 첫 페이지만 헤징
+        Mono<NearbySearchResponse> exchanged = number == 1
+                ? upstreamClient.exchangeHedged(Upstream.GOOGLE_PLACES, "nearbysearch", request)
+                : upstreamClient.exchange(Upstream.GOOGLE_PLACES, "nearbysearch", request);
+        return exchanged
+                .switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR)))
+                .flatMap(response -> {
+                    if ("OK".equals(response.status()) || "ZERO_RESULTS".equals(response.status())) {
+                        return Mono.just(new NearbyPage(number, mapToSpotResponses(response, spotType, criteria),
+                                response.results() == null ? 0 : response.results().size(), response.nextPageToken()));
+                    }
+                    if (number > 1 && "INVALID_REQUEST".equals(response.status())) {
+                        return Mono.error(new PageTokenNotReadyException());
+                    }
+                    return Mono.error(placesError("nearbysearch", response.status()));
+                });
+    }
+
+    // OK·ZERO_RESULTS 외에는 실패
+    private static BusinessException placesError(String endpoint, String status) {
+        log.warn("[SpotApiClient] Places 응답 실패 endpoint={}, status={}", endpoint, status);
+        return new BusinessException("OVER_QUERY_LIMIT".equals(status)
+                ? ErrorCode.UPSTREAM_RATE_LIMITED
+                : ErrorCode.EXTERNAL_API_ERROR);
+    }
+
+    public List<SpotResponse> rerank(List<SpotResponse> spots, SpotSearchCriteria origin) {
+        return spots.stream()
+                .filter(spot -> calculateDistanceKm(origin.lat(), origin.lng(), spot.lat(), spot.lng()) * 1000 <= origin.radius())
+                .filter(spot -> matchesMinRating(spot, origin.minRating()))
+                .map(spot -> relocate(spot, origin))
+                .sorted(DISTANCE_RATING_COMPARATOR)
+                .toList();
+    }
+
+    public SpotDetails getDetails(String placeId, String type) {
+        return getDetailsAsync(placeId, type).block();
+    }
+
+    public Mono<SpotDetails> getDetailsAsync(String placeId, String type) {
+        return upstreamClient.exchangeHedged(Upstream.GOOGLE_PLACES, "details", webClient.get()
+                        .uri(placesUrl + "/details/json?place_id={id}&key={key}&language=ko&fields=place_id,name,rating,formatted_address,formatted_phone_number,website,opening_hours,photos,geometry",
+                                placeId, apiKey)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, res ->
+                                res.createException().flatMap(Mono::error))
+                        .bodyToMono(PlaceDetailsResponse.class))
+                .flatMap(SpotApiClient::checkDetailsStatus)
+                .map(response -> new SpotDetails(
+                        mapToSpotDetailResponse(response.result(), type), mapToOpeningHours(response.result().openingHours())))
+                .switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.SPOT_NOT_FOUND)));
+    }
+
+    // opening_hours 필드만 조회
+    public Optional<OpeningHours> getOpeningHours(String placeId) {
+        return getOpeningHoursAsync(placeId).blockOptional();
+    }
+
+    public Mono<OpeningHours> getOpeningHoursAsync(String placeId) {
+        return upstreamClient.exchange(Upstream.GOOGLE_PLACES, "details", webClient.get()
+                        .uri(placesUrl + "/details/json?place_id={id}&key={key}&fields=place_id,opening_hours",
+                                placeId, apiKey)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, res ->
+                                res.createException().flatMap(Mono::error))
+                        .bodyToMono(PlaceDetailsResponse.class))
+                .flatMap(SpotApiClient::checkDetailsStatus)
+                .mapNotNull(response -> mapToOpeningHours(response.result().openingHours()));
+    }
+
+    // NOT_FOUND 등은 빈 결과, 나머지 status는 실패
+    private static Mono<PlaceDetailsResponse> checkDetailsStatus(PlaceDetailsResponse response) {
+        if ("OK".equals(response.status())) {
+            return response.result() != null ? Mono.just(response) : Mono.empty();
+        }
+        if ("NOT_FOUND".equals(response.status()) || "INVALID_REQUEST".equals(response.status())
+                || "ZERO_RESULTS".equals(response.status())) {
+            return Mono.empty();
+        }
+        return Mono.error(placesError("details", response.status()));
+    }
 
-        if (response == null || response.results() == null) {
+    private List<SpotResponse> mapToSpotResponses(NearbySearchResponse response, SpotType spotType, SpotSearchCriteria criteria) {
+        if (response.results() == null) {
             return List.of();
         }
 
@@ -69,27 +184,6 @@ public class SpotApiClient {
                 .toList();
     }
 
-    public SpotDetailResponse getDetails(String placeId, String type) {
-        PlaceDetailsResponse response = webClient.get()
-                .uri(placesUrl + "/details/json?place_id={id}&key={key}&language=ko&fields=place_id,name,rating,formatted_address,formatted_phone_number,website,opening_hours,photos,geometry",
-                        placeId, apiKey)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, res ->
-                        res.createException().flatMap(Mono::error))
-                .bodyToMono(PlaceDetailsResponse.class)
-                .retryWhen(RETRY_SPEC)
-                .onErrorMap(BusinessException.class, e -> e)
-                .onErrorMap(e -> !(e instanceof BusinessException), e -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR))
-                .block();
-
-        if (response == null || response.result() == null
-                || "NOT_FOUND".equals(response.status()) || "INVALID_REQUEST".equals(response.status())) {
-            throw new BusinessException(ErrorCode.SPOT_NOT_FOUND);
-        }
-
-        return mapToSpotDetailResponse(response.result(), type);
-    }
-
     private SpotResponse mapToSpotResponse(PlaceResult result, SpotType spotType, SpotSearchCriteria criteria) {
         String photoUrl = buildPhotoUrl(result.photos());
         double lat = result.geometry() != null ? result.geometry().location().lat() : 0.0;
@@ -111,6 +205,23 @@ public class SpotApiClient {
         );
     }
 
+    private SpotResponse relocate(SpotResponse spot, SpotSearchCriteria origin) {
+        double distanceKm = roundDistance(calculateDistanceKm(origin.lat(), origin.lng(), spot.lat(), spot.lng()));
+
+        return new SpotResponse(
+                spot.id(),
+                spot.name(),
+                spot.type(),
+                spot.rating(),
+                spot.address(),
+                spot.photoUrl(),
+                spot.lat(),
+                spot.lng(),
+                distanceKm,
+                buildReason(spot.rating(), distanceKm, origin.openNow())
+        );
+    }
+
     private SpotDetailResponse mapToSpotDetailResponse(PlaceDetail detail, String type) {
         List<String> photoUrls = detail.photos() != null
                 ? detail.photos().stream().limit(5).map(p -> buildPhotoUrl(List.of(p))).toList()
@@ -138,9 +249,42 @@ public class SpotApiClient {
         );
     }
 
+    // periods가 없으면 null(영업시간 모름)
+    private OpeningHours mapToOpeningHours(PlaceOpeningHours openingHours) {
+        if (openingHours == null || openingHours.periods() == null) {
+            return null;
+        }
+        List<PlacePeriod> periods = openingHours.periods().stream()
+                .filter(period -> period.open() != null && period.open().time() != null)
+                .toList();
+        if (periods.isEmpty()) {
+            return null;
+        }
+        if (periods.size() == 1 && periods.get(0).close() == null) {
+            return OpeningHours.alwaysOpen();
+        }
+        return OpeningHours.weekly(periods.stream()
+                .filter(period -> period.close() != null && period.close().time() != null)
+                .map(period -> new OpeningHours.Interval(
+                        OpeningHours.minuteOfWeek(period.open().day(), period.open().time()),
+                        OpeningHours.minuteOfWeek(period.close().day(), period.close().time())))
+                .toList());
+    }
+
     private String buildPhotoUrl(List<Photo> photos) {
         if (photos == null || photos.isEmpty()) return null;
-        return placesUrl + "/photo?maxwidth=800&photo_reference=" + photos.get(0).photoReference() + "&key=" + apiKey;
+        return photoUrl(photos.get(0).photoReference());
+    }
+
+    // photoReference에 현재 API 키를 붙여 URL 생성
+    public String photoUrl(String photoReference) {
+        if (photoReference == null) return null;
+        return placesUrl + "/photo?maxwidth=800&photo_reference=" + photoReference + "&key=" + apiKey;
+    }
+
+    public static String photoReference(String photoUrl) {
+        if (photoUrl == null) return null;
+        return UriComponentsBuilder.fromUriString(photoUrl).build().getQueryParams().getFirst("photo_reference");
     }
 
     private String buildNearbySearchUri(SpotType spotType, SpotSearchCriteria criteria) {
@@ -159,6 +303,16 @@ public class SpotApiClient {
         return uriBuilder.build(true).toUriString();
     }
 
+    private String buildPageTokenUri(String pageToken) {
+        return UriComponentsBuilder
+                .fromHttpUrl(placesUrl + "/nearbysearch/json")
+                .queryParam("pagetoken", pageToken)
+                .queryParam("key", apiKey)
+                .queryParam("language", "ko")
+                .build(true)
+                .toUriString();
+    }
+
     private boolean matchesMinRating(SpotResponse spot, Double minRating) {
         if (minRating == null) {
             return true;
@@ -196,24 +350,20 @@ public class SpotApiClient {
         return "접근성과 평점을 기준으로 추천해요.";
     }
 
-    private static boolean isRetryableError(Throwable throwable) {
-        if (throwable instanceof WebClientResponseException responseException) {
-            return responseException.getStatusCode().value() == 429
-                    || responseException.getStatusCode().is5xxServerError();
-        }
-
-        return throwable instanceof WebClientRequestException
-                || throwable instanceof TimeoutException;
-    }
-
     // ── Internal API DTOs ──────────────────────────────────────────────
 
     @JsonIgnoreProperties(ignoreUnknown = true)
     private record NearbySearchResponse(
             @JsonProperty("results") List<PlaceResult> results,
-            @JsonProperty("status") String status
+            @JsonProperty("status") String status,
+            @JsonProperty("next_page_token") String nextPageToken
     ) {}
 
+    private record NearbyPage(int number, List<SpotResponse> spots, int resultCount, String nextPageToken) {}
+
+    private static final class PageTokenNotReadyException extends RuntimeException {
+    }
+
     @JsonIgnoreProperties(ignoreUnknown = true)
     private record PlaceDetailsResponse(
             @JsonProperty("result") PlaceDetail result,
@@ -238,14 +388,27 @@ public class SpotApiClient {
             @JsonProperty("formatted_address") String formattedAddress,
             @JsonProperty("formatted_phone_number") String formattedPhoneNumber,
             @JsonProperty("website") String website,
-            @JsonProperty("opening_hours") OpeningHours openingHours,
+            @JsonProperty("opening_hours") PlaceOpeningHours openingHours,
             @JsonProperty("photos") List<Photo> photos,
             @JsonProperty("geometry") Geometry geometry
     ) {}
 
     @JsonIgnoreProperties(ignoreUnknown = true)
-    private record OpeningHours(
-            @JsonProperty("weekday_text") List<String> weekdayText
+    private record PlaceOpeningHours(
+            @JsonProperty("weekday_text") List<String> weekdayText,
+            @JsonProperty("periods") List<PlacePeriod> periods
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record PlacePeriod(
+            @JsonProperty("open") DayTime open,
+            @JsonProperty("close") DayTime close
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record DayTime(
+            @JsonProperty("day") int day,
+            @JsonProperty("time") String time
     ) {}
 
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -1,19 +1,27 @@
 package com.travel.taipei.spot.interfaces;
 
+import com.travel.taipei.global.client.CallContext;
 import com.travel.taipei.global.response.ApiResponse;
 import com.travel.taipei.spot.application.SpotService;
 import com.travel.taipei.spot.interfaces.dto.SpotDetailResponse;
+import com.travel.taipei.spot.interfaces.dto.SpotPageResponse;
 import com.travel.taipei.spot.interfaces.dto.SpotResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
+import java.time.LocalTime;
 import java.util.List;
 
 @RestController
+@ConditionalOnProperty(name = "serving.mode", havingValue = "blocking", matchIfMissing = true)
 @RequestMapping("/api/spots")
 @RequiredArgsConstructor
 public class SpotController {
@@ -27,9 +35,25 @@ public class SpotController {
             @RequestParam(required = false) Double lng,
             @RequestParam(defaultValue = "5000") Integer radius,
             @RequestParam(defaultValue = "false") boolean openNow,
-            @RequestParam(required = false) Double minRating
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime openAt
     ) {
-        return ApiResponse.ok(spotService.getSpots(type, lat, lng, radius, openNow, minRating));
+        return ApiResponse.ok(spotService.getSpots(type, lat, lng, radius, openNow, minRating, openAt));
+    }
+
+    // 페이지가 도착하는 대로 NDJSON 또는 SSE로 전송
+    @GetMapping(value = "/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<SpotPageResponse> streamSpots(
+            @RequestParam String type,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(defaultValue = "5000") Integer radius,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(defaultValue = "3") int pages
+    ) {
+        return spotService.streamSpots(type, lat, lng, radius, openNow, minRating, pages)
+                .contextWrite(CallContext.capture());
     }
 
     @GetMapping("/{placeId}")
@@ -0,0 +1,23 @@
+package com.travel.taipei.spot.interfaces;
+
+import com.travel.taipei.spot.application.SpotPrefetchScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// /actuator/spotprefetch: 크롤링 셀·유형별 마지막 검색 시각과 신선도
+@Component
+@Endpoint(id = "spotprefetch")
+@RequiredArgsConstructor
+public class SpotPrefetchEndpoint {
+
+    private final SpotPrefetchScheduler spotPrefetchScheduler;
+
+    @ReadOperation
+    public List<SpotPrefetchScheduler.TileStatus> tiles() {
+        return spotPrefetchScheduler.status();
+    }
+}
@@ -0,0 +1,8 @@
+package com.travel.taipei.spot.interfaces.dto;
+
+import java.util.List;
+
+public record SpotPageResponse(
+        int page,
+        List<SpotResponse> spots
+) {}
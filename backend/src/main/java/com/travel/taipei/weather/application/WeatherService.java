@@ -1,13 +1,14 @@
 package com.travel.taipei.weather.application;
 
+import com.travel.taipei.global.cache.CacheLoading;
 import com.travel.taipei.weather.infrastructure.WeatherApiClient;
 import com.travel.taipei.weather.interfaces.dto.WeatherForecastItem;
 import com.travel.taipei.weather.interfaces.dto.WeatherResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -16,45 +17,30 @@ import java.util.List;
 public class WeatherService {
 
     private static final String CACHE_NAME = "weather";
-    private static final String BACKUP_CACHE_NAME = "weather-backup";
+    private static final String FORECAST_CACHE_NAME = "weather-forecast";
     private static final String CACHE_KEY = "taipei";
 
     private final WeatherApiClient weatherApiClient;
     private final CacheManager cacheManager;
 
     public WeatherResponse getWeather() {
-        Cache cache = cacheManager.getCache(CACHE_NAME);
-        WeatherResponse cached = getCached(cache, CACHE_KEY, WeatherResponse.class);
-        if (cached != null) {
-            return cached;
-        }
-
-        try {
-            WeatherResponse response = weatherApiClient.fetchTaipeiWeather();
-            putCache(cache, CACHE_KEY, response);
-            putCache(cacheManager.getCache(BACKUP_CACHE_NAME), CACHE_KEY, response);
-            return response;
-        } catch (RuntimeException e) {
-            WeatherResponse backup = getCached(cacheManager.getCache(BACKUP_CACHE_NAME), CACHE_KEY, WeatherResponse.class);
-            if (backup != null) {
-                return backup;
-            }
-            throw e;
-        }
+        return CacheLoading.getOrLoad(cacheManager.getCache(CACHE_NAME), CACHE_KEY, weatherApiClient::fetchTaipeiWeather);
     }
 
-    @Cacheable(value = "weather-forecast", key = "'taipei'")
+    @Cacheable(value = "weather-forecast", key = "'taipei'", sync = true)
     public List<WeatherForecastItem> getForecast() {
         return weatherApiClient.fetchTaipeiForecast();
     }
 
-    private <T> T getCached(Cache cache, String key, Class<T> targetType) {
-        return cache != null ? cache.get(key, targetType) : null;
+    public Mono<WeatherResponse> getWeatherAsync() {
+        return CacheLoading.getOrLoadAsync(cacheManager.getCache(CACHE_NAME), CACHE_KEY, weatherApiClient::fetchTaipeiWeatherAsync);
     }
 
-    private void putCache(Cache cache, String key, Object value) {
-        if (cache != null) {
-            cache.put(key, value);
-        }
+    public Mono<List<WeatherForecastItem>> getForecastAsync() {
+        return CacheLoading.getOrLoadAsync(
+                cacheManager.getCache(FORECAST_CACHE_NAME),
+                CACHE_KEY,
+                weatherApiClient::fetchTaipeiForecastAsync
+        );
     }
 }
@@ -2,6 +2,8 @@ package com.travel.taipei.weather.infrastructure;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.travel.taipei.global.client.Upstream;
+import com.travel.taipei.global.client.UpstreamClient;
 import com.travel.taipei.global.exception.BusinessException;
 import com.travel.taipei.global.exception.ErrorCode;
 import com.travel.taipei.weather.interfaces.dto.WeatherForecastItem;
@@ -11,12 +13,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -25,7 +23,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Component
@@ -33,6 +30,7 @@ import java.util.stream.Collectors;
 public class WeatherApiClient {
 
     private final WebClient webClient;
+    private final UpstreamClient upstreamClient;
 
     @Value("${external.weather.api-key}")
     private String apiKey;
@@ -47,28 +45,21 @@ public class WeatherApiClient {
     private static final double TAIPEI_LON = 121.5654;
     private static final ZoneId TAIPEI_ZONE = ZoneId.of("Asia/Taipei");
     private static final DateTimeFormatter DT_TXT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    private static final Retry RETRY_SPEC = Retry.backoff(2, Duration.ofMillis(300))
-            .maxBackoff(Duration.ofSeconds(2))
-            .filter(WeatherApiClient::isRetryableError);
 
     public WeatherResponse fetchTaipeiWeather() {
-        ApiResponse response = webClient.get()
-                .uri(apiUrl + "?lat={lat}&lon={lon}&appid={key}&units=metric&lang=ko",
-                        TAIPEI_LAT, TAIPEI_LON, apiKey)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, res ->
-                        res.createException().flatMap(Mono::error))
-                .bodyToMono(ApiResponse.class)
-                .retryWhen(RETRY_SPEC)
-                .onErrorMap(BusinessException.class, e -> e)
-                .onErrorMap(e -> !(e instanceof BusinessException), e -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR))
-                .block();
-
-        if (response == null) {
-            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
-        }
+        return fetchTaipeiWeatherAsync().block();
+    }
 
-        return mapToResponse(response);
+    public Mono<WeatherResponse> fetchTaipeiWeatherAsync() {
+        return upstreamClient.exchange(Upstream.OPENWEATHER, "weather", webClient.get()
+                        .uri(apiUrl + "?lat={lat}&lon={lon}&appid={key}&units=metric&lang=ko",
+                                TAIPEI_LAT, TAIPEI_LON, apiKey)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, res ->
+                                res.createException().flatMap(Mono::error))
+                        .bodyToMono(ApiResponse.class))
+                .map(this::mapToResponse)
+                .switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR)));
     }
 
     private WeatherResponse mapToResponse(ApiResponse res) {
@@ -95,23 +86,20 @@ public class WeatherApiClient {
     }
 
     public List<WeatherForecastItem> fetchTaipeiForecast() {
-        ForecastApiResponse response = webClient.get()
-                .uri(forecastUrl + "?lat={lat}&lon={lon}&appid={key}&units=metric&lang=ko",
-                        TAIPEI_LAT, TAIPEI_LON, apiKey)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, res ->
-                        res.createException().flatMap(Mono::error))
-                .bodyToMono(ForecastApiResponse.class)
-                .retryWhen(RETRY_SPEC)
-                .onErrorMap(BusinessException.class, e -> e)
-                .onErrorMap(e -> !(e instanceof BusinessException), e -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR))
-                .block();
-
-        if (response == null || response.list() == null) {
-            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
-        }
+        return fetchTaipeiForecastAsync().block();
+    }
 
-        return mapToForecast(response.list());
+    public Mono<List<WeatherForecastItem>> fetchTaipeiForecastAsync() {
+        return upstreamClient.exchange(Upstream.OPENWEATHER, "forecast", webClient.get()
+                        .uri(forecastUrl + "?lat={lat}&lon={lon}&appid={key}&units=metric&lang=ko",
+                                TAIPEI_LAT, TAIPEI_LON, apiKey)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, res ->
+                                res.createException().flatMap(Mono::error))
+                        .bodyToMono(ForecastApiResponse.class))
+                .filter(response -> response.list() != null)
+                .map(response -> mapToForecast(response.list()))
+                .switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.EXTERNAL_API_ERROR)));
     }
 
     private List<WeatherForecastItem> mapToForecast(List<ForecastSlot> slots) {
@@ -209,16 +197,6 @@ public class WeatherApiClient {
                 : "";
     }
 
-    private static boolean isRetryableError(Throwable throwable) {
-        if (throwable instanceof WebClientResponseException responseException) {
-            return responseException.getStatusCode().value() == 429
-                    || responseException.getStatusCode().is5xxServerError();
-        }
-
-        return throwable instanceof WebClientRequestException
-                || throwable instanceof TimeoutException;
-    }
-
     @JsonIgnoreProperties(ignoreUnknown = true)
     private record ForecastApiResponse(
             @JsonProperty("list") List<ForecastSlot> list
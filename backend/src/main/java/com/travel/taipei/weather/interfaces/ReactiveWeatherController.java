@@ -0,0 +1,39 @@
+package com.travel.taipei.weather.interfaces;
+
+import com.travel.taipei.global.client.CallContext;
+import com.travel.taipei.global.response.ApiResponse;
+import com.travel.taipei.weather.application.WeatherService;
+import com.travel.taipei.weather.interfaces.dto.WeatherForecastItem;
+import com.travel.taipei.weather.interfaces.dto.WeatherResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// serving.mode=reactive일 때 WeatherController 대신 등록
+@RestController
+@ConditionalOnProperty(name = "serving.mode", havingValue = "reactive")
+@RequestMapping("/api/weather")
+@RequiredArgsConstructor
+public class ReactiveWeatherController {
+
+    private final WeatherService weatherService;
+
+    @GetMapping
+    public Mono<ApiResponse<WeatherResponse>> getWeather() {
+        return weatherService.getWeatherAsync()
+                .map(ApiResponse::ok)
+                .contextWrite(CallContext.capture());
+    }
+
+    @GetMapping("/forecast")
+    public Mono<ApiResponse<List<WeatherForecastItem>>> getForecast() {
+        return weatherService.getForecastAsync()
+                .map(ApiResponse::ok)
+                .contextWrite(CallContext.capture());
+    }
+}
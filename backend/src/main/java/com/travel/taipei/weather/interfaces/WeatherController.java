@@ -5,6 +5,7 @@ import com.travel.taipei.weather.application.WeatherService;
 import com.travel.taipei.weather.interfaces.dto.WeatherForecastItem;
 import com.travel.taipei.weather.interfaces.dto.WeatherResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import java.util.List;
 
 @RestController
+@ConditionalOnProperty(name = "serving.mode", havingValue = "blocking", matchIfMissing = true)
 @RequestMapping("/api/weather")
 @RequiredArgsConstructor
 public class WeatherController {
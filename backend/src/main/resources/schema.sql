@@ -0,0 +1,22 @@
+-- =============================================
+-- 장소 카탈로그 (spot.catalog)
+-- ddl-auto가 validate라 테이블이 없으면 기동에 실패하므로 기동 시 spring.sql.init으로 실행한다.
+-- 여러 번 실행해도 되도록 IF NOT EXISTS로만 작성한다.
+-- =============================================
+
+CREATE TABLE IF NOT EXISTS place (
+    place_id        VARCHAR(255)                NOT NULL,
+    type            VARCHAR(30)                 NOT NULL,
+    name            VARCHAR(200)                NOT NULL,
+    rating          DOUBLE PRECISION,
+    address         VARCHAR(300),
+    photo_reference VARCHAR(1000),
+    lat             DOUBLE PRECISION            NOT NULL,
+    lng             DOUBLE PRECISION            NOT NULL,
+    opening_hours   VARCHAR(1000),
+    updated_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (place_id, type)
+);
+
+CREATE INDEX IF NOT EXISTS idx_place_type ON place (type);
+CREATE INDEX IF NOT EXISTS idx_place_updated_at ON place (updated_at);
@@ -0,0 +1,140 @@
+package com.travel.taipei.batch.application;
+
+import com.travel.taipei.batch.interfaces.dto.BatchItem;
+import com.travel.taipei.batch.interfaces.dto.BatchResult;
+import com.travel.taipei.exchange.application.ExchangeService;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.phrase.application.PhraseService;
+import com.travel.taipei.spot.application.SpotService;
+import com.travel.taipei.weather.application.WeatherService;
+import com.travel.taipei.weather.interfaces.dto.WeatherResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BatchServiceTest {
+
+    @Mock
+    private WeatherService weatherService;
+
+    @Mock
+    private ExchangeService exchangeService;
+
+    @Mock
+    private SpotService spotService;
+
+    @Mock
+    private PhraseService phraseService;
+
+    @InjectMocks
+    private BatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(batchService, "maxItems", 5);
+        ReflectionTestUtils.setField(batchService, "maxConcurrency", 2);
+    }
+
+    @Test
+    void execute_whenSubRequestsAreIdentical_callsServiceOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        given(spotService.getSpotsAsync("cafe", 25.04, 121.56, 1000, false, null, null))
+                .willReturn(Mono.fromCallable(() -> {
+                    calls.incrementAndGet();
+                    return List.of();
+                }));
+
+        List<BatchResult> results = batchService.execute(List.of(
+                new BatchItem("a", "/api/spots?type=cafe&lat=25.04&lng=121.56&radius=1000"),
+                new BatchItem("b", "/api/spots?radius=1000&lng=121.56&lat=25.04&type=cafe")
+        )).collectList().block();
+
+        assertThat(results).extracting(BatchResult::id).containsExactlyInAnyOrder("a", "b");
+        assertThat(results).extracting(BatchResult::status).containsOnly(200);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_whenOneSubRequestFails_reportsStatusPerItem() {
+        given(weatherService.getWeatherAsync()).willReturn(Mono.just(
+                new WeatherResponse("Taipei", 22.5, 23.1, 70, "맑음", "https://openweathermap.org/img/wn/01d@2x.png", 3.5)));
+        given(exchangeService.getExchangeRateAsync())
+                .willReturn(Mono.error(new BusinessException(ErrorCode.EXTERNAL_API_ERROR)));
+
+        List<BatchResult> results = batchService.execute(List.of(
+                new BatchItem("weather", "/api/weather"),
+                new BatchItem("exchange", "/api/exchange-rates"),
+                new BatchItem("unknown", "/api/unknown"),
+                new BatchItem("spots", "/api/spots?lat=abc")
+        )).collectList().block();
+
+        assertThat(results).filteredOn(result -> result.id().equals("weather"))
+                .singleElement().extracting(BatchResult::status).isEqualTo(200);
+        assertThat(results).filteredOn(result -> result.id().equals("exchange"))
+                .singleElement().extracting(BatchResult::status).isEqualTo(502);
+        assertThat(results).filteredOn(result -> result.id().equals("unknown"))
+                .singleElement().extracting(BatchResult::status).isEqualTo(404);
+        assertThat(results).filteredOn(result -> result.id().equals("spots"))
+                .singleElement().extracting(BatchResult::status).isEqualTo(400);
+    }
+
+    @Test
+    void execute_whenOpenAtGiven_passesItToSpotSearch() {
+        given(spotService.getSpotsAsync("cafe", null, null, 5000, false, null, LocalTime.of(21, 30)))
+                .willReturn(Mono.just(List.of()));
+
+        List<BatchResult> results = batchService.execute(List.of(
+                new BatchItem("late", "/api/spots?type=cafe&openAt=21:30")
+        )).collectList().block();
+
+        assertThat(results).singleElement().extracting(BatchResult::status).isEqualTo(200);
+    }
+
+    @Test
+    void execute_whenOpenAtIsMalformed_rejectsItemWithBadRequest() {
+        List<BatchResult> results = batchService.execute(List.of(
+                new BatchItem("late", "/api/spots?type=cafe&openAt=25:00")
+        )).collectList().block();
+
+        assertThat(results).singleElement().extracting(BatchResult::status).isEqualTo(400);
+    }
+
+    @Test
+    void execute_whenSpotStreamRequested_rejectsItemWithoutDetailLookup() {
+        List<BatchResult> results = batchService.execute(List.of(
+                new BatchItem("stream", "/api/spots/stream?type=cafe")
+        )).collectList().block();
+
+        assertThat(results).singleElement().extracting(BatchResult::status).isEqualTo(404);
+        verify(spotService, never()).getSpotDetailAsync(any(), any());
+    }
+
+    @Test
+    void execute_whenTooManySubRequests_throwsBatchTooLarge() {
+        List<BatchItem> items = Collections.nCopies(6, new BatchItem("weather", "/api/weather"));
+
+        assertThatThrownBy(() -> batchService.execute(items))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.BATCH_TOO_LARGE);
+    }
+}
@@ -0,0 +1,76 @@
+package com.travel.taipei.batch.interfaces;
+
+import com.travel.taipei.batch.application.BatchService;
+import com.travel.taipei.batch.interfaces.dto.BatchItem;
+import com.travel.taipei.batch.interfaces.dto.BatchResult;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BatchController.class)
+class BatchControllerTest {
+
+    private static final String BODY = """
+            {"requests":[{"id":"a","path":"/api/weather"},{"id":"b","path":"/api/exchange-rates"}]}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BatchService batchService;
+
+    @Test
+    void execute_whenNdjsonAccepted_streamsOneResultPerLine() throws Exception {
+        given(batchService.execute(List.of(
+                new BatchItem("a", "/api/weather"),
+                new BatchItem("b", "/api/exchange-rates")
+        ))).willReturn(Flux.just(
+                BatchResult.ok("b", null),
+                BatchResult.fail("a", ErrorCode.EXTERNAL_API_ERROR)
+        ));
+
+        MvcResult result = mockMvc.perform(post("/api/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content(BODY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("{\"id\":\"b\",\"status\":200")))
+                .andExpect(content().string(containsString("{\"id\":\"a\",\"status\":502")));
+    }
+
+    @Test
+    void execute_whenBatchTooLarge_returnsBadRequest() throws Exception {
+        given(batchService.execute(anyList())).willThrow(new BusinessException(ErrorCode.BATCH_TOO_LARGE));
+
+        mockMvc.perform(post("/api/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value(ErrorCode.BATCH_TOO_LARGE.getMessage()));
+    }
+}
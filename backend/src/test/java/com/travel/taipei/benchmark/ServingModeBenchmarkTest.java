@@ -0,0 +1,135 @@
+package com.travel.taipei.benchmark;
+
+import com.travel.taipei.BackendApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 앱을 serving.mode=blocking, reactive로 한 번씩 띄워 200ms 지연 Places 스텁 앞에서 /api/spots에 같은 동시 요청을 보낸다.
+// 요청마다 다른 격자 셀을 검색해 컨트롤러·캐시 미스·업스트림 호출 경로를 모두 지난다. ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class ServingModeBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ServingModeBenchmarkTest.class);
+    private static final int CONCURRENT_REQUESTS = 400;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(200);
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static DisposableServer places;
+    private static ConnectionProvider connectionProvider;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @BeforeAll
+    static void startPlacesStub() {
+        places = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/places/nearbysearch/json", (request, response) ->
+                        response.header("Content-Type", "application/json")
+                                .sendString(Mono.just("{\"status\":\"ZERO_RESULTS\",\"results\":[]}")
+                                        .delayElement(UPSTREAM_LATENCY))))
+                .bindNow();
+        connectionProvider = ConnectionProvider.create("serving-mode-benchmark", CONCURRENT_REQUESTS);
+    }
+
+    @AfterAll
+    static void stopPlacesStub() {
+        connectionProvider.dispose();
+        places.disposeNow();
+    }
+
+    @Test
+    void compareBlockingAndReactiveServingModes() {
+        Result blocking = run("blocking");
+        Result reactive = run("reactive");
+
+        log.info("[ServingModeBenchmark] requests={} blocking={}ms peakThreads={}, reactive={}ms peakThreads={}",
+                CONCURRENT_REQUESTS, blocking.millis(), blocking.peakThreads(), reactive.millis(), reactive.peakThreads());
+
+        assertThat(blocking.succeeded()).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(reactive.succeeded()).isEqualTo(CONCURRENT_REQUESTS);
+    }
+
+    private Result run(String servingMode) {
+        try (ConfigurableApplicationContext context = boot(servingMode)) {
+            WebClient client = WebClient.builder()
+                    .baseUrl("http://localhost:" + context.getEnvironment().getProperty("local.server.port"))
+                    .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                    .build();
+            request(client, -1).block();
+            context.getBean(StringRedisTemplate.class).execute((RedisCallback<Object>) connection -> {
+                connection.serverCommands().flushAll();
+                return null;
+            });
+
+            threads.resetPeakThreadCount();
+            long start = System.nanoTime();
+            List<HttpStatusCode> statuses = Flux.range(0, CONCURRENT_REQUESTS)
+                    .flatMap(i -> request(client, i), CONCURRENT_REQUESTS)
+                    .collectList()
+                    .block();
+            long millis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            long succeeded = statuses.stream().filter(HttpStatusCode::is2xxSuccessful).count();
+            return new Result(millis, threads.getPeakThreadCount(), succeeded);
+        }
+    }
+
+    private ConfigurableApplicationContext boot(String servingMode) {
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "serving.mode=" + servingMode,
+                        "spring.data.redis.host=" + REDIS.getHost(),
+                        "spring.data.redis.port=" + REDIS.getMappedPort(6379),
+                        "external.google.places-url=http://localhost:" + places.port() + "/places",
+                        "external.client.scheduling.enabled=false",
+                        "external.client.pools.google-places.max-connections=" + CONCURRENT_REQUESTS,
+                        "external.client.pools.google-places.pending-acquire-max-count=" + CONCURRENT_REQUESTS,
+                        "spot.catalog.enabled=false",
+                        "spot.superset.enabled=false"
+                )
+                .run();
+    }
+
+    // 셀 크기(300m)보다 멀리 떨어진 원점이라 요청마다 캐시 키가 다르다.
+    private Mono<HttpStatusCode> request(WebClient client, int index) {
+        double lat = 24.0 + (index + 1) * 0.01;
+        return client.get()
+                .uri("/api/spots?type=restaurant&lat={lat}&lng=121.5&radius=500", lat)
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()));
+    }
+
+    private record Result(long millis, int peakThreads, long succeeded) {
+    }
+}
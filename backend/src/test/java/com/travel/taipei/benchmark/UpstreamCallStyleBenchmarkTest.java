@@ -0,0 +1,115 @@
+package com.travel.taipei.benchmark;
+
+import com.travel.taipei.global.client.OutboundCallScheduler;
+import com.travel.taipei.global.client.RequestHedger;
+import com.travel.taipei.global.client.RetryBudget;
+import com.travel.taipei.global.client.Upstream;
+import com.travel.taipei.global.client.UpstreamClient;
+import com.travel.taipei.global.client.UpstreamRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 200ms 지연 업스트림에 동시 요청 200개를 보내 UpstreamClient.call(.block(), 요청당 스레드)과
+// UpstreamClient.exchange(Mono 합성)의 소요 시간과 최대 스레드 수를 비교한다.
+// 업스트림 호출 방식만 재며, serving.mode 전체 경로는 ServingModeBenchmarkTest가 잰다. ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+class UpstreamCallStyleBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamCallStyleBenchmarkTest.class);
+    private static final int CONCURRENT_REQUESTS = 200;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(200);
+
+    private DisposableServer upstream;
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+    private UpstreamClient upstreamClient;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @BeforeEach
+    void setUp() {
+        upstream = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/weather", (request, response) ->
+                        response.sendString(Mono.just("{\"name\":\"Taipei\"}").delayElement(UPSTREAM_LATENCY))))
+                .bindNow();
+        connectionProvider = ConnectionProvider.create("benchmark", CONCURRENT_REQUESTS);
+        webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + upstream.port())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        upstreamClient = new UpstreamClient(
+                meterRegistry, UpstreamRateLimiter.disabled(meterRegistry), OutboundCallScheduler.unbounded(meterRegistry),
+                RequestHedger.disabled(meterRegistry), RetryBudget.disabled(meterRegistry));
+        request().block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        upstream.disposeNow();
+    }
+
+    @Test
+    void compareBlockingCallAndReactiveExchange() throws Exception {
+        threads.resetPeakThreadCount();
+        long blockingStart = System.nanoTime();
+        ExecutorService servletThreads = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                results.add(servletThreads.submit(() -> upstreamClient.call(Upstream.OPENWEATHER, "weather", request())));
+            }
+            for (Future<String> result : results) {
+                result.get();
+            }
+        } finally {
+            servletThreads.shutdown();
+        }
+        long blockingMillis = Duration.ofNanos(System.nanoTime() - blockingStart).toMillis();
+        int blockingPeakThreads = threads.getPeakThreadCount();
+
+        threads.resetPeakThreadCount();
+        long reactiveStart = System.nanoTime();
+        Long completed = Flux.range(0, CONCURRENT_REQUESTS)
+                .flatMap(i -> upstreamClient.exchange(Upstream.OPENWEATHER, "weather", request()), CONCURRENT_REQUESTS)
+                .count()
+                .block();
+        long reactiveMillis = Duration.ofNanos(System.nanoTime() - reactiveStart).toMillis();
+        int reactivePeakThreads = threads.getPeakThreadCount();
+
+        log.info("[UpstreamCallStyleBenchmark] requests={} blocking={}ms peakThreads={}, reactive={}ms peakThreads={}",
+                CONCURRENT_REQUESTS, blockingMillis, blockingPeakThreads, reactiveMillis, reactivePeakThreads);
+
+        assertThat(completed).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(reactivePeakThreads).isLessThan(blockingPeakThreads);
+    }
+
+    private Mono<String> request() {
+        return webClient.get().uri("/weather").retrieve().bodyToMono(String.class);
+    }
+}
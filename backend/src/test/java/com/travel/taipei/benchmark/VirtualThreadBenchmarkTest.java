@@ -0,0 +1,132 @@
+package com.travel.taipei.benchmark;
+
+import com.travel.taipei.global.client.OutboundCallScheduler;
+import com.travel.taipei.global.client.RequestHedger;
+import com.travel.taipei.global.client.RetryBudget;
+import com.travel.taipei.global.client.Upstream;
+import com.travel.taipei.global.client.UpstreamClient;
+import com.travel.taipei.global.client.UpstreamRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 500ms 지연 업스트림에 동시 요청 1000개를 블로킹(.block())으로 보내 플랫폼 스레드 풀(Tomcat 기본 200개)과
+// 요청당 가상 스레드의 처리량, 최대 플랫폼 스레드 수, 동시 요청당 힙 사용량을 비교한다.
+// 플랫폼 스레드 스택은 힙 밖(네이티브 메모리)에 잡히므로 스레드 수와 함께 본다. ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+class VirtualThreadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadBenchmarkTest.class);
+    private static final int CONCURRENT_REQUESTS = 1000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(500);
+
+    private DisposableServer upstream;
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+    private UpstreamClient upstreamClient;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @BeforeEach
+    void setUp() {
+        upstream = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/exchange", (request, response) ->
+                        response.sendString(Mono.just("[{\"cur_unit\":\"TWD\"}]").delayElement(UPSTREAM_LATENCY))))
+                .bindNow();
+        connectionProvider = ConnectionProvider.create("benchmark", CONCURRENT_REQUESTS);
+        webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + upstream.port())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        upstreamClient = new UpstreamClient(
+                meterRegistry, UpstreamRateLimiter.disabled(meterRegistry), OutboundCallScheduler.unbounded(meterRegistry),
+                RequestHedger.disabled(meterRegistry), RetryBudget.disabled(meterRegistry));
+        request().block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        upstream.disposeNow();
+    }
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Result platform = run("platform", Executors.newFixedThreadPool(PLATFORM_POOL_SIZE));
+        Result virtual = run("virtual", Executors.newVirtualThreadPerTaskExecutor());
+
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+        assertThat(virtual.peakThreads()).isLessThan(platform.peakThreads());
+    }
+
+    private Result run(String mode, ExecutorService executor) throws Exception {
+        System.gc();
+        long baselineHeap = memory.getHeapMemoryUsage().getUsed();
+        AtomicLong peakHeap = new AtomicLong(baselineHeap);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(
+                () -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 10, TimeUnit.MILLISECONDS);
+        threads.resetPeakThreadCount();
+
+        long start = System.nanoTime();
+        try (executor) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                results.add(executor.submit(() -> upstreamClient.call(Upstream.KOREAEXIM, "exchangeJSON", request())));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get()).contains("TWD");
+            }
+        } finally {
+            sampler.shutdownNow();
+        }
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        Result result = new Result(
+                CONCURRENT_REQUESTS * 1000.0 / elapsedMillis,
+                threads.getPeakThreadCount(),
+                Math.max(0, peakHeap.get() - baselineHeap) / CONCURRENT_REQUESTS
+        );
+        log.info("[VirtualThreadBenchmark] mode={} requests={} elapsed={}ms throughput={} req/s peakThreads={} heapPerRequest={}B",
+                mode, CONCURRENT_REQUESTS, elapsedMillis, String.format("%.1f", result.throughput()), result.peakThreads(),
+                result.heapBytesPerRequest());
+        return result;
+    }
+
+    private Mono<String> request() {
+        return webClient.get().uri("/exchange").retrieve().bodyToMono(String.class);
+    }
+
+    private record Result(double throughput, int peakThreads, long heapBytesPerRequest) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.travel.taipei.dashboard.application;
+
+import com.travel.taipei.dashboard.interfaces.dto.DashboardResponse;
+import com.travel.taipei.exchange.application.ExchangeService;
+import com.travel.taipei.exchange.interfaces.dto.ExchangeRateResponse;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.phrase.application.PhraseService;
+import com.travel.taipei.phrase.interfaces.dto.PhraseResponse;
+import com.travel.taipei.spot.application.SpotService;
+import com.travel.taipei.weather.application.WeatherService;
+import com.travel.taipei.weather.interfaces.dto.WeatherForecastItem;
+import com.travel.taipei.weather.interfaces.dto.WeatherResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock
+    private WeatherService weatherService;
+
+    @Mock
+    private ExchangeService exchangeService;
+
+    @Mock
+    private SpotService spotService;
+
+    @Mock
+    private PhraseService phraseService;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dashboardService, "deadlineMs", 500L);
+    }
+
+    @Test
+    void getDashboard_whenAllSectionsSucceed_returnsEverySection() {
+        givenHealthySections();
+
+        DashboardResponse result = dashboardService.getDashboard("attraction", null, null, 5000, false, null, "airport");
+
+        assertThat(result.weather().success()).isTrue();
+        assertThat(result.weather().data().city()).isEqualTo("Taipei");
+        assertThat(result.forecast().data()).hasSize(1);
+        assertThat(result.exchangeRate().data().baseRate()).isEqualTo(43.24);
+        assertThat(result.spots().data()).isEmpty();
+        assertThat(result.phrases().data()).extracting(PhraseResponse::category).containsExactly("airport");
+    }
+
+    @Test
+    void getDashboard_whenOneSectionFails_degradesOnlyThatSection() {
+        givenHealthySections();
+        given(exchangeService.getExchangeRate()).willThrow(new BusinessException(ErrorCode.EXTERNAL_API_ERROR));
+
+        DashboardResponse result = dashboardService.getDashboard("attraction", null, null, 5000, false, null, "airport");
+
+        assertThat(result.exchangeRate().success()).isFalse();
+        assertThat(result.exchangeRate().message()).isEqualTo(ErrorCode.EXTERNAL_API_ERROR.getMessage());
+        assertThat(result.weather().success()).isTrue();
+        assertThat(result.spots().success()).isTrue();
+    }
+
+    @Test
+    void getDashboard_whenSectionMissesDeadline_marksItAsTimedOut() {
+        givenHealthySections();
+        willAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        }).given(spotService).getSpots("attraction", null, null, 5000, false, null);
+
+        long start = System.nanoTime();
+        DashboardResponse result = dashboardService.getDashboard("attraction", null, null, 5000, false, null, "airport");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(result.spots().success()).isFalse();
+        assertThat(result.spots().message()).isEqualTo(ErrorCode.EXTERNAL_API_TIMEOUT.getMessage());
+        assertThat(result.weather().success()).isTrue();
+    }
+
+    private void givenHealthySections() {
+        given(weatherService.getWeather()).willReturn(
+                new WeatherResponse("Taipei", 22.5, 23.1, 70, "맑음", "https://openweathermap.org/img/wn/01d@2x.png", 3.5));
+        given(weatherService.getForecast()).willReturn(
+                List.of(new WeatherForecastItem("2026-03-01", 18.0, 24.0, "맑음", "https://openweathermap.org/img/wn/01d@2x.png")));
+        given(exchangeService.getExchangeRate()).willReturn(
+                new ExchangeRateResponse("TWD", 43.24, 42.81, 43.68, "2026-02-27"));
+        given(spotService.getSpots("attraction", null, null, 5000, false, null)).willReturn(List.of());
+        given(phraseService.findByCategory("airport")).willReturn(
+                List.of(new PhraseResponse(1L, "airport", "출구가 어디예요?", "出口在哪裡?", "chu kou zai na li")));
+    }
+}
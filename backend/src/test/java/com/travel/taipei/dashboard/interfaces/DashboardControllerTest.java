@@ -0,0 +1,55 @@
+package com.travel.taipei.dashboard.interfaces;
+
+import com.travel.taipei.dashboard.application.DashboardService;
+import com.travel.taipei.dashboard.interfaces.dto.DashboardResponse;
+import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.global.response.ApiResponse;
+import com.travel.taipei.weather.interfaces.dto.WeatherResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DashboardController.class)
+class DashboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DashboardService dashboardService;
+
+    @Test
+    void getDashboard_whenSectionFails_returnsOkWithDegradedSection() throws Exception {
+        given(dashboardService.getDashboard("cafe", 25.03, 121.56, 5000, false, null, "airport")).willReturn(
+                new DashboardResponse(
+                        ApiResponse.ok(new WeatherResponse("Taipei", 22.5, 23.1, 70, "맑음",
+                                "https://openweathermap.org/img/wn/01d@2x.png", 3.5)),
+                        ApiResponse.ok(List.of()),
+                        ApiResponse.fail(ErrorCode.EXTERNAL_API_TIMEOUT.getMessage()),
+                        ApiResponse.ok(List.of()),
+                        ApiResponse.ok(List.of())
+                )
+        );
+
+        mockMvc.perform(get("/api/dashboard")
+                        .param("type", "cafe")
+                        .param("lat", "25.03")
+                        .param("lng", "121.56")
+                        .param("phraseCategory", "airport"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.weather.success").value(true))
+                .andExpect(jsonPath("$.data.weather.data.city").value("Taipei"))
+                .andExpect(jsonPath("$.data.exchangeRate.success").value(false))
+                .andExpect(jsonPath("$.data.exchangeRate.message").value(ErrorCode.EXTERNAL_API_TIMEOUT.getMessage()));
+    }
+}
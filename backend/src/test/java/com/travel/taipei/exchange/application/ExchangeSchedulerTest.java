@@ -0,0 +1,67 @@
+package com.travel.taipei.exchange.application;
+
+import com.travel.taipei.exchange.infrastructure.ExchangeApiClient;
+import com.travel.taipei.exchange.interfaces.dto.ExchangeRateResponse;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeSchedulerTest {
+
+    @Mock
+    private ExchangeApiClient exchangeApiClient;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private final Cache exchangeCache = new ConcurrentMapCache("exchange-rates");
+
+    private ExchangeService exchangeService;
+
+    private ExchangeScheduler exchangeScheduler;
+
+    @BeforeEach
+    void setUp() {
+        exchangeService = new ExchangeService(exchangeApiClient, cacheManager);
+        exchangeScheduler = new ExchangeScheduler(exchangeService);
+    }
+
+    @Test
+    void refreshExchangeRate_whenApiFails_keepsServingPreviousRate() {
+        ExchangeRateResponse previous = new ExchangeRateResponse("TWD", 43.24, 42.81, 43.68, "2026-02-26");
+        exchangeCache.put("TWD", previous);
+        given(cacheManager.getCache("exchange-rates")).willReturn(exchangeCache);
+        given(exchangeApiClient.fetchTwdRate()).willThrow(new BusinessException(ErrorCode.EXTERNAL_API_ERROR));
+
+        exchangeScheduler.refreshExchangeRate();
+
+        assertThat(exchangeService.getExchangeRate()).isEqualTo(previous);
+        verify(exchangeApiClient, times(1)).fetchTwdRate();
+    }
+
+    @Test
+    void refreshExchangeRate_whenApiReturnsData_replacesCachedRate() {
+        ExchangeRateResponse previous = new ExchangeRateResponse("TWD", 43.24, 42.81, 43.68, "2026-02-26");
+        ExchangeRateResponse latest = new ExchangeRateResponse("TWD", 43.51, 43.08, 43.95, "2026-02-27");
+        exchangeCache.put("TWD", previous);
+        given(cacheManager.getCache("exchange-rates")).willReturn(exchangeCache);
+        given(exchangeApiClient.fetchTwdRate()).willReturn(latest);
+
+        exchangeScheduler.refreshExchangeRate();
+
+        assertThat(exchangeService.getExchangeRate()).isEqualTo(latest);
+    }
+}
@@ -11,11 +11,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,20 +27,16 @@ class ExchangeServiceTest {
     @Mock
     private CacheManager cacheManager;
 
-    @Mock
-    private Cache exchangeCache;
-
-    @Mock
-    private Cache exchangeBackupCache;
+    private final Cache exchangeCache = new ConcurrentMapCache("exchange-rates");
 
     @InjectMocks
     private ExchangeService exchangeService;
 
     @Test
-    void getExchangeRate_whenPrimaryCacheHasValue_returnsCached() {
+    void getExchangeRate_whenCacheHasValue_returnsCached() {
         ExchangeRateResponse cached = new ExchangeRateResponse("TWD", 43.24, 42.81, 43.68, "2026-02-27");
         given(cacheManager.getCache("exchange-rates")).willReturn(exchangeCache);
-        given(exchangeCache.get("TWD", ExchangeRateResponse.class)).willReturn(cached);
+        exchangeCache.put("TWD", cached);
 
         ExchangeRateResponse result = exchangeService.getExchangeRate();
 
@@ -52,24 +48,18 @@ class ExchangeServiceTest {
     void getExchangeRate_whenApiReturnsData_returnsExchangeRateAndCaches() {
         ExchangeRateResponse response = new ExchangeRateResponse("TWD", 43.24, 42.81, 43.68, "2026-02-27");
         given(cacheManager.getCache("exchange-rates")).willReturn(exchangeCache);
-        given(cacheManager.getCache("exchange-rates-backup")).willReturn(exchangeBackupCache);
-        given(exchangeCache.get("TWD", ExchangeRateResponse.class)).willReturn(null);
         given(exchangeApiClient.fetchTwdRate()).willReturn(response);
 
         ExchangeRateResponse result = exchangeService.getExchangeRate();
 
         assertThat(result.currency()).isEqualTo("TWD");
         assertThat(result.baseRate()).isEqualTo(43.24);
-        verify(exchangeCache).put("TWD", response);
-        verify(exchangeBackupCache).put("TWD", response);
+        assertThat(exchangeCache.get("TWD", ExchangeRateResponse.class)).isEqualTo(response);
     }
 
     @Test
     void getExchangeRate_whenApiReturnsNull_throwsBusinessException() {
         given(cacheManager.getCache("exchange-rates")).willReturn(exchangeCache);
-        given(cacheManager.getCache("exchange-rates-backup")).willReturn(exchangeBackupCache);
-        given(exchangeCache.get("TWD", ExchangeRateResponse.class)).willReturn(null);
-        given(exchangeBackupCache.get("TWD", ExchangeRateResponse.class)).willReturn(null);
         given(exchangeApiClient.fetchTwdRate()).willReturn(null);
 
         assertThatThrownBy(() -> exchangeService.getExchangeRate())
@@ -78,26 +68,8 @@ class ExchangeServiceTest {
     }
 
     @Test
-    void getExchangeRate_whenApiFailsAndBackupExists_returnsBackup() {
-        ExchangeRateResponse backup = new ExchangeRateResponse("TWD", 43.10, 42.70, 43.50, "2026-02-26");
-        given(cacheManager.getCache("exchange-rates")).willReturn(exchangeCache);
-        given(cacheManager.getCache("exchange-rates-backup")).willReturn(exchangeBackupCache);
-        given(exchangeCache.get("TWD", ExchangeRateResponse.class)).willReturn(null);
-        given(exchangeBackupCache.get("TWD", ExchangeRateResponse.class)).willReturn(backup);
-        given(exchangeApiClient.fetchTwdRate())
-                .willThrow(new BusinessException(ErrorCode.EXTERNAL_API_ERROR));
-
-        ExchangeRateResponse result = exchangeService.getExchangeRate();
-
-        assertThat(result).isEqualTo(backup);
-    }
-
-    @Test
-    void getExchangeRate_whenApiThrowsExceptionAndNoBackup_propagatesException() {
+    void getExchangeRate_whenApiThrowsExceptionAndNothingCached_propagatesException() {
         given(cacheManager.getCache("exchange-rates")).willReturn(exchangeCache);
-        given(cacheManager.getCache("exchange-rates-backup")).willReturn(exchangeBackupCache);
-        given(exchangeCache.get("TWD", ExchangeRateResponse.class)).willReturn(null);
-        given(exchangeBackupCache.get("TWD", ExchangeRateResponse.class)).willReturn(null);
         given(exchangeApiClient.fetchTwdRate())
                 .willThrow(new BusinessException(ErrorCode.EXTERNAL_API_ERROR));
 
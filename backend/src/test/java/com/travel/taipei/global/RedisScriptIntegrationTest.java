@@ -0,0 +1,161 @@
+package com.travel.taipei.global;
+
+import com.travel.taipei.global.cache.CacheSpecProperties;
+import com.travel.taipei.global.cache.DistributedRefillGuard;
+import com.travel.taipei.global.client.CallPriority;
+import com.travel.taipei.global.client.RateLimitProperties;
+import com.travel.taipei.global.client.RetryBudget;
+import com.travel.taipei.global.client.RetryBudgetProperties;
+import com.travel.taipei.global.client.Upstream;
+import com.travel.taipei.global.client.UpstreamRateLimiter;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// UpstreamRateLimiter, RetryBudget, DistributedRefillGuard의 Lua 스크립트를 실제 Redis에서 실행해 본다.
+// Docker가 없는 환경에서는 건너뛴다.
+@Testcontainers(disabledWithoutDocker = true)
+class RedisScriptIntegrationTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Test
+    void rateLimiter_whenBucketIsDrained_rejectsNextCall() {
+        UpstreamRateLimiter rateLimiter = rateLimiter(new RateLimitProperties.Limit(
+                2, 0.001, Duration.ZERO, 0, 0, ZoneOffset.UTC, 0, 0));
+
+        rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE).block();
+        rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE).block();
+
+        assertThatThrownBy(() -> rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE).block())
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.UPSTREAM_RATE_LIMITED.getMessage());
+    }
+
+    @Test
+    void rateLimiter_whenBackgroundReachesReservedQuota_leavesRestForInteractive() {
+        UpstreamRateLimiter rateLimiter = rateLimiter(new RateLimitProperties.Limit(
+                10, 5, Duration.ZERO, 0, 3, ZoneOffset.UTC, 0, 1));
+
+        rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.BACKGROUND).block();
+        rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.BACKGROUND).block();
+        assertThatThrownBy(() -> rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.BACKGROUND).block())
+                .isInstanceOf(BusinessException.class);
+
+        rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE).block();
+        assertThatThrownBy(() -> rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE).block())
+                .isInstanceOf(BusinessException.class);
+        assertThat(meterRegistry.get("upstream.quota.remaining").tag("upstream", "google-places").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void retryBudget_allowsMinRetriesThenScalesWithRequests() {
+        RetryBudget retryBudget = new RetryBudget(
+                redisTemplate, new RetryBudgetProperties(true, 0.1, 2, Duration.ofMinutes(10)), meterRegistry);
+
+        assertThat(retryBudget.tryAcquire(Upstream.OPENWEATHER).block()).isTrue();
+        assertThat(retryBudget.tryAcquire(Upstream.OPENWEATHER).block()).isTrue();
+        assertThat(retryBudget.tryAcquire(Upstream.OPENWEATHER).block()).isFalse();
+
+        for (int i = 0; i < 100; i++) {
+            retryBudget.recordRequest(Upstream.OPENWEATHER);
+        }
+        assertThat(retryBudget.tryAcquire(Upstream.OPENWEATHER).block()).isTrue();
+    }
+
+    @Test
+    void refillGuard_whenLeaseIsStillHeld_writesEntryWithTtl() {
+        DistributedRefillGuard guard = refillGuard();
+
+        String result = guard.refill("taipei", () -> null, () -> "sunny", value -> {}, value -> {});
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(redisTemplate.opsForValue().get("weather::taipei")).isEqualTo("sunny");
+        assertThat(redisTemplate.getExpire("weather::taipei")).isPositive();
+        assertThat(redisTemplate.hasKey("refill:{weather::taipei}:lease")).isFalse();
+    }
+
+    @Test
+    void refillGuard_whenLeaseWasTakenOverDuringLoad_doesNotWrite() {
+        DistributedRefillGuard guard = refillGuard();
+
+        String result = guard.refill("taipei", () -> null, () -> {
+            redisTemplate.opsForValue().set("refill:{weather::taipei}:lease", "999");
+            return "sunny";
+        }, value -> {}, value -> {});
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(redisTemplate.hasKey("weather::taipei")).isFalse();
+        assertThat(redisTemplate.opsForValue().get("refill:{weather::taipei}:lease")).isEqualTo("999");
+    }
+
+    private UpstreamRateLimiter rateLimiter(RateLimitProperties.Limit limit) {
+        return new UpstreamRateLimiter(
+                redisTemplate, new RateLimitProperties(true, Map.of("google-places", limit)), meterRegistry);
+    }
+
+    private DistributedRefillGuard refillGuard() {
+        RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(SerializationPair.fromSerializer(RedisSerializer.string()))
+                .entryTtl(Duration.ofMinutes(5));
+        return new DistributedRefillGuard(
+                "weather",
+                cacheConfiguration,
+                redisTemplate,
+                new CacheSpecProperties.Refill(true, Duration.ofSeconds(15), Duration.ofMillis(300), Duration.ofMillis(50)),
+                meterRegistry
+        );
+    }
+}
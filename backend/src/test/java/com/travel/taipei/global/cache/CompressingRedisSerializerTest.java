@@ -0,0 +1,76 @@
+package com.travel.taipei.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressingRedisSerializerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisSerializer<Object> json;
+    private CompressingRedisSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        json = new GenericJackson2JsonRedisSerializer();
+        serializer = new CompressingRedisSerializer("spots", json, 256, meterRegistry);
+    }
+
+    @Test
+    void serialize_belowThreshold_storesUncompressed() {
+        byte[] bytes = serializer.serialize("sunny");
+
+        assertThat(bytes).isEqualTo(json.serialize("sunny"));
+        assertThat(serializer.deserialize(bytes)).isEqualTo("sunny");
+    }
+
+    @Test
+    void serialize_aboveThreshold_compressesAndRoundTrips() {
+        String value = "https://maps.googleapis.com/maps/api/place/photo?maxwidth=400&photo_reference=abc ".repeat(20);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo(CompressingRedisSerializer.LZ4_MARKER);
+        assertThat(bytes.length).isLessThan(json.serialize(value).length);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+        assertThat(meterRegistry.get("cache.compression.ratio").tag("cache", "spots").summary().mean())
+                .isGreaterThan(1.0);
+    }
+
+    @Test
+    void deserialize_readsUncompressedEntriesWrittenBeforeRollout() {
+        String value = "x".repeat(1_000);
+
+        assertThat(serializer.deserialize(json.serialize(value))).isEqualTo(value);
+    }
+
+    @Test
+    void deserialize_whenHeaderClaimsHugeLength_rejectsBeforeAllocating() {
+        String value = "https://maps.googleapis.com/maps/api/place/photo?maxwidth=400&photo_reference=abc ".repeat(20);
+        byte[] bytes = serializer.serialize(value);
+        ByteBuffer.wrap(bytes, 1, Integer.BYTES).putInt(Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void deserialize_whenBlockIsTruncated_throwsSerializationException() {
+        String value = "https://maps.googleapis.com/maps/api/place/photo?maxwidth=400&photo_reference=abc ".repeat(20);
+        byte[] bytes = serializer.serialize(value);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 8);
+
+        assertThatThrownBy(() -> serializer.deserialize(truncated))
+                .isInstanceOf(SerializationException.class);
+    }
+}
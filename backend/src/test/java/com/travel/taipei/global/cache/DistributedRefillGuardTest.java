@@ -0,0 +1,168 @@
+package com.travel.taipei.global.cache;
+
+import io.lettuce.core.cluster.SlotHash;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedRefillGuardTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private DistributedRefillGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        CacheSpecProperties.Refill refill = new CacheSpecProperties.Refill(
+                true, Duration.ofSeconds(15), Duration.ofMillis(300), Duration.ofMillis(50));
+        guard = new DistributedRefillGuard(
+                "weather", RedisCacheConfiguration.defaultCacheConfig(), redisTemplate, refill, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void refill_whenLeaseAcquired_writesWithFenceCheck() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(7L);
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn(1L);
+        List<String> unguarded = new ArrayList<>();
+        List<String> committed = new ArrayList<>();
+
+        String result = guard.refill("taipei", () -> null, () -> "sunny", unguarded::add, committed::add);
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(committed).containsExactly("sunny");
+        assertThat(unguarded).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refill_usesLeaseAndFenceKeysInTheEntryKeySlot() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(7L);
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn(1L);
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+
+        guard.refill("taipei", () -> null, () -> "sunny", value -> {}, value -> {});
+
+        then(redisTemplate).should(times(2)).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+        assertThat(keys.getAllValues().get(0))
+                .containsExactly("refill:{weather::taipei}:lease", "refill:{weather::taipei}:fence")
+                .allSatisfy(key -> assertThat(SlotHash.getSlot(key)).isEqualTo(SlotHash.getSlot("weather::taipei")));
+    }
+
+    @Test
+    void refill_whenFencedOutByNewerLeader_skipsWrite() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(7L);
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn(0L);
+        List<String> committed = new ArrayList<>();
+
+        String result = guard.refill("taipei", () -> null, () -> "sunny", value -> {}, committed::add);
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(committed).isEmpty();
+    }
+
+    @Test
+    void refill_whenFencedWriteFails_doesNotWrite() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(7L);
+        given(redisTemplate.execute(any(RedisCallback.class)))
+                .willThrow(new RedisConnectionFailureException("connection reset"));
+        List<String> unguarded = new ArrayList<>();
+        List<String> committed = new ArrayList<>();
+
+        String result = guard.refill("taipei", () -> null, () -> "sunny", unguarded::add, committed::add);
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(committed).isEmpty();
+        assertThat(unguarded).isEmpty();
+    }
+
+    @Test
+    void refill_whenAnotherNodeHoldsLeaseAndPublishes_returnsPublishedValue() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(0L);
+        AtomicInteger loads = new AtomicInteger();
+
+        String result = guard.refill(
+                "taipei",
+                () -> new SimpleValueWrapper("cloudy"),
+                () -> "sunny-" + loads.incrementAndGet(),
+                value -> {},
+                value -> {}
+        );
+
+        assertThat(result).isEqualTo("cloudy");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    void refill_whenLeaderDoesNotPublishInTime_loadsItselfWithoutWriting() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(0L);
+        given(redisTemplate.hasKey(anyString())).willReturn(true);
+        AtomicInteger loads = new AtomicInteger();
+        List<String> written = new ArrayList<>();
+
+        String result = guard.refill(
+                "taipei", () -> null, () -> "sunny-" + loads.incrementAndGet(), written::add, written::add);
+
+        assertThat(result).isEqualTo("sunny-1");
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    void refill_whenLeaseCannotBeAcquired_writesUnguarded() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+        List<String> unguarded = new ArrayList<>();
+
+        String result = guard.refill("taipei", () -> null, () -> "sunny", unguarded::add, value -> {});
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(unguarded).containsExactly("sunny");
+    }
+
+    @Test
+    void refresh_whenAnotherNodeHoldsLease_skipsWithoutLoading() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(0L);
+        AtomicInteger loads = new AtomicInteger();
+
+        String result = guard.refresh("taipei", () -> "sunny-" + loads.incrementAndGet(), value -> {}, value -> {});
+
+        assertThat(result).isNull();
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    void refresh_whenLeaseAcquired_writesWithFenceCheck() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(7L);
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn(1L);
+        List<String> committed = new ArrayList<>();
+
+        String result = guard.refresh("taipei", () -> "sunny", value -> {}, committed::add);
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(committed).containsExactly("sunny");
+    }
+}
@@ -0,0 +1,134 @@
+package com.travel.taipei.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MeteredCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MeteredCache(new ConcurrentMapCache("spots"), meterRegistry);
+    }
+
+    @Test
+    void get_withLoader_countsMissThenHit() {
+        cache.get("taipei", () -> "sunny");
+        cache.get("taipei", () -> "rainy");
+
+        assertThat(count("cache.gets", "miss")).isEqualTo(1);
+        assertThat(count("cache.gets", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void get_whenCoalescedOntoAnotherThreadsLoad_countsOnlyTheLoaderAsMiss() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(meterRegistry.counter("cache.singleflight.coalesced"));
+        MeteredCache coalescing = new MeteredCache(
+                new SingleFlightCache(new ConcurrentMapCache("spots"), singleFlight), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<String> first = executor.submit(() -> coalescing.get("taipei", () -> {
+                release.await(2, TimeUnit.SECONDS);
+                return "sunny";
+            }));
+            Future<String> second = executor.submit(() -> coalescing.get("taipei", () -> {
+                release.await(2, TimeUnit.SECONDS);
+                return "sunny";
+            }));
+            Thread.sleep(200);
+            release.countDown();
+
+            assertThat(first.get(2, TimeUnit.SECONDS)).isEqualTo("sunny");
+            assertThat(second.get(2, TimeUnit.SECONDS)).isEqualTo("sunny");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(count("cache.gets", "miss")).isEqualTo(1);
+        assertThat(count("cache.gets", "hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.singleflight.coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void get_withLoader_goesThroughDelegateOnce() {
+        AtomicInteger lookups = new AtomicInteger();
+        MeteredCache counted = new MeteredCache(new ConcurrentMapCache("spots") {
+            @Override
+            public ValueWrapper get(Object key) {
+                lookups.incrementAndGet();
+                return super.get(key);
+            }
+
+            @Override
+            public <T> T get(Object key, Callable<T> valueLoader) {
+                lookups.incrementAndGet();
+                return super.get(key, valueLoader);
+            }
+        }, meterRegistry);
+
+        counted.get("taipei", () -> "sunny");
+        counted.get("taipei", () -> "rainy");
+
+        assertThat(lookups).hasValue(2);
+        assertThat(count("cache.gets", "miss")).isEqualTo(1);
+        assertThat(count("cache.gets", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void retrieve_withLoader_countsMissThenHit() {
+        cache.retrieve("taipei", () -> CompletableFuture.completedFuture("sunny")).join();
+        cache.retrieve("taipei", () -> CompletableFuture.completedFuture("rainy")).join();
+
+        assertThat(count("cache.gets", "miss")).isEqualTo(1);
+        assertThat(count("cache.gets", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void runUnmetered_doesNotCountCallsInside() {
+        cache.get("taipei", () -> "sunny");
+
+        MeteredCache.runUnmetered(() -> {
+            cache.get("taipei", () -> "rainy");
+            cache.retrieve("taipei", () -> CompletableFuture.completedFuture("rainy")).join();
+            cache.put("taipei", "cloudy");
+        });
+        cache.get("taipei", () -> "rainy");
+
+        assertThat(count("cache.gets", "miss")).isEqualTo(1);
+        assertThat(count("cache.gets", "hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.puts").tag("cache", "spots").counter().count()).isZero();
+    }
+
+    @Test
+    void putAndEvict_areCounted() {
+        cache.put("taipei", "sunny");
+        cache.evict("taipei");
+
+        assertThat(cache.get("taipei")).isNull();
+        assertThat(meterRegistry.get("cache.puts").tag("cache", "spots").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "spots").counter().count()).isEqualTo(1);
+        assertThat(count("cache.gets", "miss")).isEqualTo(1);
+    }
+
+    private double count(String name, String result) {
+        return meterRegistry.get(name).tags("cache", "spots", "result", result).counter().count();
+    }
+}
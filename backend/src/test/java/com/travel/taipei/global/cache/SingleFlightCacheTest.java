@@ -0,0 +1,189 @@
+package com.travel.taipei.global.cache;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SingleFlightCacheTest {
+
+    private Counter coalesced;
+    private SingleFlightCache cache;
+
+    @BeforeEach
+    void setUp() {
+        coalesced = new SimpleMeterRegistry().counter("cache.singleflight.coalesced");
+        cache = new SingleFlightCache(new ConcurrentMapCache("weather"), new SingleFlight(coalesced));
+    }
+
+    @Test
+    void get_whenConcurrentMisses_callsLoaderOnce() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get("taipei", () -> {
+                    loads.incrementAndGet();
+                    release.await(2, TimeUnit.SECONDS);
+                    return "sunny";
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("sunny");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalesced.count()).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void retrieve_whenConcurrentMisses_callsLoaderOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(cache.retrieve("taipei", () -> {
+                loads.incrementAndGet();
+                return upstream;
+            }));
+        }
+        upstream.complete("sunny");
+
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("sunny");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalesced.count()).isEqualTo(7);
+    }
+
+    @Test
+    void get_whenLoaderFails_propagatesAndDoesNotCache() {
+        assertThatThrownBy(() -> CacheLoading.getOrLoad(cache, "taipei", () -> {
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
+        }))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.EXTERNAL_API_ERROR.getMessage());
+
+        assertThat(cache.get("taipei")).isNull();
+    }
+
+    @Test
+    void retrieve_withRefillGuard_waitsForAnotherNodesRefillInsteadOfLoading() throws Exception {
+        ConcurrentMapCache remote = new ConcurrentMapCache("weather");
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(0L);
+        given(redisTemplate.hasKey(anyString())).willAnswer(invocation -> {
+            remote.put("taipei", "sunny");
+            return true;
+        });
+        DistributedRefillGuard guard = new DistributedRefillGuard(
+                "weather", RedisCacheConfiguration.defaultCacheConfig(), redisTemplate,
+                new CacheSpecProperties.Refill(true, Duration.ofSeconds(15), Duration.ofSeconds(1), Duration.ofMillis(20)),
+                new SimpleMeterRegistry());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicInteger loads = new AtomicInteger();
+
+        try {
+            SingleFlightCache guarded = new SingleFlightCache(
+                    remote, new SingleFlight(coalesced), guard, value -> false, executor);
+
+            String result = guarded.<String>retrieve("taipei", () -> {
+                loads.incrementAndGet();
+                return CompletableFuture.completedFuture("rainy");
+            }).get(2, TimeUnit.SECONDS);
+
+            assertThat(result).isEqualTo("sunny");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    void retrieve_withRefillGuard_loadsDistinctKeysConcurrently() throws Exception {
+        int keys = 32;
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(7L);
+        given(redisTemplate.execute(any(RedisCallback.class))).willReturn(1L);
+        DistributedRefillGuard guard = new DistributedRefillGuard(
+                "weather", RedisCacheConfiguration.defaultCacheConfig(), redisTemplate,
+                new CacheSpecProperties.Refill(true, Duration.ofSeconds(15), Duration.ofSeconds(1), Duration.ofMillis(20)),
+                new SimpleMeterRegistry());
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<String> allStarted = new CompletableFuture<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            SingleFlightCache guarded = new SingleFlightCache(
+                    new ConcurrentMapCache("weather"), new SingleFlight(coalesced), guard, value -> false, executor);
+
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < keys; i++) {
+                results.add(guarded.retrieve("city-" + i, () -> {
+                    if (started.incrementAndGet() == keys) {
+                        allStarted.complete("sunny");
+                    }
+                    return allStarted;
+                }));
+            }
+
+            // 적재가 줄을 서면 첫 loader가 나머지의 시작을 기다리며 끝나지 않는다.
+            for (CompletableFuture<String> result : results) {
+                assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("sunny");
+            }
+        }
+        assertThat(started.get()).isEqualTo(keys);
+    }
+
+    @Test
+    void retrieve_withRefillGuard_whenLoaderFails_propagatesOriginalException() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(7L);
+        DistributedRefillGuard guard = new DistributedRefillGuard(
+                "weather", RedisCacheConfiguration.defaultCacheConfig(), redisTemplate,
+                new CacheSpecProperties.Refill(true, Duration.ofSeconds(15), Duration.ofSeconds(1), Duration.ofMillis(20)),
+                new SimpleMeterRegistry());
+        SingleFlightCache guarded = new SingleFlightCache(
+                new ConcurrentMapCache("weather"), new SingleFlight(coalesced), guard, value -> false, Runnable::run);
+
+        assertThatThrownBy(() -> guarded.<String>retrieve("taipei",
+                () -> CompletableFuture.failedFuture(new BusinessException(ErrorCode.UPSTREAM_RATE_LIMITED))).join())
+                .hasCauseInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,226 @@
+package com.travel.taipei.global.cache;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class StaleWhileRevalidateCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T00:00:00Z");
+
+    private ConcurrentMapCache remote;
+    private StaleWhileRevalidateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("weather");
+        CacheSpecProperties.CacheSpec spec = new CacheSpecProperties.CacheSpec(
+                Duration.ofHours(6), Duration.ofMinutes(30), 0, Duration.ofMinutes(1), CacheValueFormat.SMILE, null, 0, null);
+        cache = new StaleWhileRevalidateCache(
+                remote,
+                spec,
+                Runnable::run,
+                new SimpleMeterRegistry(),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+
+    @Test
+    void get_whenFresh_returnsWithoutLoading() {
+        remote.put("taipei", envelopeWrittenAgo("sunny", Duration.ofMinutes(5)));
+        AtomicInteger loads = new AtomicInteger();
+
+        String result = cache.get("taipei", () -> "rainy-" + loads.incrementAndGet());
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    void get_whenStale_returnsStaleAndRefreshesInBackground() {
+        remote.put("taipei", envelopeWrittenAgo("sunny", Duration.ofHours(1)));
+
+        String result = cache.get("taipei", () -> "rainy");
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(cache.get("taipei", String.class)).isEqualTo("rainy");
+    }
+
+    @Test
+    void get_whenStaleAndRefreshFails_keepsStaleValue() {
+        remote.put("taipei", envelopeWrittenAgo("sunny", Duration.ofHours(1)));
+
+        String result = cache.get("taipei", () -> {
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
+        });
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(cache.get("taipei", String.class)).isEqualTo("sunny");
+    }
+
+    @Test
+    void get_whenStaleAndAnotherNodeHoldsRefillLease_skipsBackgroundRefresh() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(0L);
+        DistributedRefillGuard guard = new DistributedRefillGuard(
+                "weather", RedisCacheConfiguration.defaultCacheConfig(), redisTemplate,
+                new CacheSpecProperties.Refill(true, Duration.ofSeconds(15), Duration.ofMillis(300), Duration.ofMillis(50)),
+                new SimpleMeterRegistry());
+        SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry().counter("cache.singleflight.coalesced"));
+        CacheSpecProperties.CacheSpec spec = new CacheSpecProperties.CacheSpec(
+                Duration.ofHours(6), Duration.ofMinutes(30), 0, Duration.ofMinutes(1), CacheValueFormat.SMILE, null, 0, null);
+        StaleWhileRevalidateCache guarded = new StaleWhileRevalidateCache(
+                new SingleFlightCache(remote, singleFlight, guard),
+                spec,
+                Runnable::run,
+                new SimpleMeterRegistry(),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+        remote.put("taipei", envelopeWrittenAgo("sunny", Duration.ofHours(1)));
+        AtomicInteger loads = new AtomicInteger();
+
+        String result = guarded.get("taipei", () -> "rainy-" + loads.incrementAndGet());
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(loads.get()).isZero();
+        assertThat(guarded.get("taipei", String.class)).isEqualTo("sunny");
+    }
+
+    @Test
+    void get_whenHardExpired_loadsSynchronously() {
+        remote.put("taipei", envelopeWrittenAgo("sunny", Duration.ofHours(7)));
+
+        assertThat(cache.get("taipei")).isNull();
+        assertThat(cache.get("taipei", () -> "rainy")).isEqualTo("rainy");
+        assertThat(remote.get("taipei").get()).isInstanceOf(CacheEnvelope.class);
+    }
+
+    @Test
+    void get_whenHardExpiredAndUpstreamRateLimited_returnsStaleValue() {
+        remote.put("taipei", envelopeWrittenAgo("sunny", Duration.ofHours(7)));
+
+        String result = cache.get("taipei", () -> {
+            throw new BusinessException(ErrorCode.UPSTREAM_RATE_LIMITED);
+        });
+
+        assertThat(result).isEqualTo("sunny");
+    }
+
+    @Test
+    void get_whenHardExpiredWithinGraceAndRateLimited_keepsServingStaleToLaterCallers() {
+        SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry().counter("cache.singleflight.coalesced"));
+        CacheSpecProperties.CacheSpec spec = new CacheSpecProperties.CacheSpec(
+                Duration.ofHours(6), Duration.ofMinutes(30), 0, Duration.ofMinutes(1), CacheValueFormat.SMILE, null, 0, null);
+        StaleWhileRevalidateCache layered = new StaleWhileRevalidateCache(
+                new SingleFlightCache(remote, singleFlight, null,
+                        value -> value instanceof CacheEnvelope<?> envelope && envelope.isExpired(NOW.toEpochMilli()),
+                        Runnable::run),
+                spec,
+                Runnable::run,
+                new SimpleMeterRegistry(),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+        remote.put("taipei", envelopeWrittenAgo("sunny", Duration.ofHours(7)));
+
+        String first = layered.get("taipei", () -> {
+            throw new BusinessException(ErrorCode.UPSTREAM_RATE_LIMITED);
+        });
+        String second = layered.get("taipei", () -> {
+            throw new BusinessException(ErrorCode.UPSTREAM_RATE_LIMITED);
+        });
+
+        assertThat(first).isEqualTo("sunny");
+        assertThat(second).isEqualTo("sunny");
+        assertThat(layered.get("taipei", () -> "rainy")).isEqualTo("rainy");
+    }
+
+    @Test
+    void get_whenCloseToSoftExpiryAndSlowToCompute_refreshesEarly() {
+        StaleWhileRevalidateCache xfetch = earlyRefreshCache(() -> 1e-6);
+        remote.put("taipei", new CacheEnvelope<Object>(
+                "sunny", at(Duration.ofMinutes(20)), at(Duration.ofMinutes(-10)), at(Duration.ofHours(-6)), 60_000L));
+
+        String result = xfetch.get("taipei", () -> "rainy");
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(xfetch.get("taipei", String.class)).isEqualTo("rainy");
+    }
+
+    @Test
+    void get_whenFarFromSoftExpiry_doesNotRefreshEarly() {
+        StaleWhileRevalidateCache xfetch = earlyRefreshCache(() -> 0.5);
+        remote.put("taipei", new CacheEnvelope<Object>(
+                "sunny", at(Duration.ofMinutes(20)), at(Duration.ofMinutes(-10)), at(Duration.ofHours(-6)), 60_000L));
+        AtomicInteger loads = new AtomicInteger();
+
+        xfetch.get("taipei", () -> "rainy-" + loads.incrementAndGet());
+
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    void put_withTtlJitter_pullsSoftExpiryForward() {
+        CacheSpecProperties.CacheSpec spec = new CacheSpecProperties.CacheSpec(
+                Duration.ofHours(6), Duration.ofMinutes(30), 0, Duration.ofMinutes(1),
+                CacheValueFormat.SMILE, Duration.ofMinutes(10), 0, null);
+        StaleWhileRevalidateCache jittered = new StaleWhileRevalidateCache(
+                remote, spec, Runnable::run, new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC), () -> 0.5);
+
+        jittered.put("taipei", "sunny");
+
+        CacheEnvelope<?> stored = (CacheEnvelope<?>) remote.get("taipei").get();
+        assertThat(stored.softExpireAt()).isEqualTo(NOW.plus(Duration.ofMinutes(25)).toEpochMilli());
+        assertThat(stored.hardExpireAt()).isEqualTo(NOW.plus(Duration.ofHours(6)).toEpochMilli());
+    }
+
+    @Test
+    void put_withMinComputeTime_letsWrittenEntryRefreshEarly() {
+        CacheSpecProperties.CacheSpec spec = new CacheSpecProperties.CacheSpec(
+                Duration.ofHours(6), Duration.ofMinutes(30), 0, Duration.ofMinutes(1),
+                CacheValueFormat.SMILE, null, 1.0, Duration.ofSeconds(2));
+        StaleWhileRevalidateCache written = new StaleWhileRevalidateCache(
+                remote, spec, Runnable::run, new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC), () -> 0.5);
+
+        written.put("taipei", "sunny");
+
+        CacheEnvelope<?> stored = (CacheEnvelope<?>) remote.get("taipei").get();
+        assertThat(stored.computeMillis()).isEqualTo(2_000L);
+        assertThat(stored.shouldRefreshEarly(stored.softExpireAt() - 1_000L, spec.earlyRefreshBeta(), 0.5)).isTrue();
+    }
+
+    private StaleWhileRevalidateCache earlyRefreshCache(DoubleSupplier random) {
+        CacheSpecProperties.CacheSpec spec = new CacheSpecProperties.CacheSpec(
+                Duration.ofHours(6), Duration.ofMinutes(30), 0, Duration.ofMinutes(1), CacheValueFormat.SMILE, null, 1.0, null);
+        return new StaleWhileRevalidateCache(
+                remote, spec, Runnable::run, new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneOffset.UTC), random);
+    }
+
+    // NOW 기준 age 전 시각(음수면 이후 시각)
+    private long at(Duration age) {
+        return NOW.minus(age).toEpochMilli();
+    }
+
+    private CacheEnvelope<Object> envelopeWrittenAgo(Object value, Duration age) {
+        long writtenAt = NOW.minus(age).toEpochMilli();
+        return CacheEnvelope.of(value, writtenAt, Duration.ofMinutes(30), Duration.ofHours(6));
+    }
+}
@@ -0,0 +1,86 @@
+package com.travel.taipei.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private ConcurrentMapCache remote;
+    private TwoLevelCache cache;
+    private NearCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("weather");
+        invalidator = new NearCacheInvalidator(redisTemplate, (cacheName, key) -> cache.evictLocal(key));
+        cache = new TwoLevelCache(remote, Caffeine.newBuilder().maximumSize(10).build(), invalidator);
+    }
+
+    @Test
+    void get_whenRemoteHasValue_servesLaterReadsFromNearCache() {
+        remote.put("taipei", "sunny");
+
+        assertThat(cache.get("taipei", String.class)).isEqualTo("sunny");
+        remote.evict("taipei");
+
+        assertThat(cache.get("taipei", String.class)).isEqualTo("sunny");
+    }
+
+    @Test
+    void get_withLoader_loadsOnceAndWritesBothLevels() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = cache.get("taipei", () -> "sunny-" + calls.incrementAndGet());
+        String second = cache.get("taipei", () -> "sunny-" + calls.incrementAndGet());
+
+        assertThat(first).isEqualTo("sunny-1");
+        assertThat(second).isEqualTo("sunny-1");
+        assertThat(remote.get("taipei", String.class)).isEqualTo("sunny-1");
+        verify(redisTemplate).convertAndSend(eq(NearCacheInvalidator.CHANNEL), contains("weather\ttaipei"));
+    }
+
+    @Test
+    void onMessage_fromOtherNode_evictsNearEntry() {
+        remote.put("taipei", "sunny");
+        cache.get("taipei");
+        remote.put("taipei", "rainy");
+
+        invalidator.onMessage(new DefaultMessage(
+                NearCacheInvalidator.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "other-node\tweather\ttaipei".getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        assertThat(cache.get("taipei", String.class)).isEqualTo("rainy");
+    }
+
+    @Test
+    void evict_removesBothLevelsAndPublishes() {
+        cache.put("taipei", "sunny");
+
+        cache.evict("taipei");
+
+        assertThat(cache.get("taipei")).isNull();
+        verify(redisTemplate, times(2)).convertAndSend(eq(NearCacheInvalidator.CHANNEL), anyString());
+    }
+}
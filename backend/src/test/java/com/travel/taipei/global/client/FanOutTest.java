@@ -0,0 +1,80 @@
+package com.travel.taipei.global.client;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanOutTest {
+
+    @Test
+    void forkAll_runsTasksConcurrentlyAndKeepsOrder() {
+        CountDownLatch started = new CountDownLatch(3);
+        List<Callable<String>> tasks = List.of(
+                () -> awaitOthers(started, "today"),
+                () -> awaitOthers(started, "yesterday"),
+                () -> awaitOthers(started, "two-days-ago")
+        );
+
+        List<Future<String>> results = FanOut.forkAll(tasks, Duration.ofSeconds(2));
+
+        assertThat(results).extracting(FanOut::join).containsExactly("today", "yesterday", "two-days-ago");
+    }
+
+    @Test
+    void forkAll_whenDeadlinePasses_interruptsSlowTasks() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        List<Callable<String>> tasks = List.of(
+                () -> "today",
+                () -> {
+                    try {
+                        Thread.sleep(Duration.ofSeconds(10));
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                    return "late";
+                }
+        );
+
+        List<Future<String>> results = FanOut.forkAll(tasks, Duration.ofMillis(100));
+
+        assertThat(FanOut.join(results.get(0))).isEqualTo("today");
+        assertThatThrownBy(() -> FanOut.join(results.get(1)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EXTERNAL_API_TIMEOUT);
+        assertThat(interrupted).isTrue();
+    }
+
+    @Test
+    void join_whenTaskFails_rethrowsOriginalException() {
+        List<Callable<String>> tasks = List.of(() -> {
+            throw new BusinessException(ErrorCode.EXCHANGE_DATA_NOT_FOUND);
+        });
+
+        List<Future<String>> results = FanOut.forkAll(tasks, Duration.ofSeconds(1));
+
+        assertThatThrownBy(() -> FanOut.join(results.get(0)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EXCHANGE_DATA_NOT_FOUND);
+    }
+
+    private String awaitOthers(CountDownLatch started, String value) throws InterruptedException {
+        started.countDown();
+        if (!started.await(1, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("tasks did not run concurrently");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,154 @@
+package com.travel.taipei.global.client;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundCallSchedulerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundCallScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CallSchedulingProperties.Lane lane = new CallSchedulingProperties.Lane(
+                1, 1, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(5), false, 1, 2.0);
+        scheduler = new OutboundCallScheduler(
+                new CallSchedulingProperties(true, Map.of("google-places", lane)), meterRegistry);
+    }
+
+    @Test
+    void schedule_whenSlotFrees_dispatchesInteractiveBeforeQueuedBackground() {
+        Sinks.One<String> first = Sinks.one();
+        List<String> started = new CopyOnWriteArrayList<>();
+        List<String> completed = new CopyOnWriteArrayList<>();
+
+        scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE, first.asMono()).subscribe();
+        scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.BACKGROUND, call("background", started))
+                .subscribe(completed::add);
+        scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE, call("interactive", started))
+                .subscribe(completed::add);
+        assertThat(started).isEmpty();
+
+        first.tryEmitValue("first");
+
+        assertThat(started).containsExactly("interactive", "background");
+        assertThat(completed).containsExactly("interactive", "background");
+    }
+
+    @Test
+    void schedule_whenQueueFull_rejectsWithUpstreamBusy() {
+        Sinks.One<String> first = Sinks.one();
+        scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE, first.asMono()).subscribe();
+        scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE, Mono.just("queued")).subscribe();
+
+        assertThatThrownBy(() -> scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE, Mono.just("rejected")).block())
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.UPSTREAM_BUSY);
+        assertThat(meterRegistry.get("upstream.scheduler.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void schedule_whenWaitExceedsMaxWait_rejectsAndLeavesQueue() {
+        CallSchedulingProperties.Lane lane = new CallSchedulingProperties.Lane(
+                1, 1, 1, 1, Duration.ofMillis(50), Duration.ofMillis(50), false, 1, 2.0);
+        scheduler = new OutboundCallScheduler(
+                new CallSchedulingProperties(true, Map.of("google-places", lane)), meterRegistry);
+        scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE, Sinks.<String>one().asMono()).subscribe();
+
+        assertThatThrownBy(() -> scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.BACKGROUND, Mono.just("late")).block())
+                .isInstanceOf(BusinessException.class);
+        assertThat(meterRegistry.get("upstream.scheduler.rejected").tag("reason", "wait_timeout").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("upstream.scheduler.queued").tag("priority", "background").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void schedule_whenAdaptiveAndUpstreamOverloaded_shrinksLimitDownToMinimum() {
+        CallSchedulingProperties.Lane lane = new CallSchedulingProperties.Lane(
+                10, 2, 10, 10, Duration.ofSeconds(1), Duration.ofSeconds(1), true, 2, 2.0);
+        scheduler = new OutboundCallScheduler(
+                new CallSchedulingProperties(true, Map.of("google-places", lane)), meterRegistry);
+        Mono<String> overloaded = Mono.error(WebClientResponseException.create(503, "error", HttpHeaders.EMPTY, new byte[0], null));
+
+        scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE, overloaded).onErrorResume(e -> Mono.empty()).block();
+        assertThat(limit()).isEqualTo(9.0);
+
+        for (int i = 0; i < 30; i++) {
+            scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE, overloaded).onErrorResume(e -> Mono.empty()).block();
+        }
+        assertThat(limit()).isEqualTo(2.0);
+    }
+
+    @Test
+    void schedule_whenConcurrentCallsFailTogether_shrinksLimitOncePerWindow() {
+        CallSchedulingProperties.Lane lane = new CallSchedulingProperties.Lane(
+                10, 2, 10, 10, Duration.ofSeconds(1), Duration.ofSeconds(1), true, 2, 2.0);
+        scheduler = new OutboundCallScheduler(
+                new CallSchedulingProperties(true, Map.of("google-places", lane)), meterRegistry);
+        List<Sinks.One<String>> inFlight = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Sinks.One<String> call = Sinks.one();
+            inFlight.add(call);
+            scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE, call.asMono())
+                    .onErrorResume(e -> Mono.empty()).subscribe();
+        }
+
+        inFlight.forEach(call -> call.tryEmitError(WebClientResponseException.create(503, "error", HttpHeaders.EMPTY, new byte[0], null)));
+        assertThat(limit()).isEqualTo(9.0);
+
+        Mono<String> overloaded = Mono.error(WebClientResponseException.create(503, "error", HttpHeaders.EMPTY, new byte[0], null));
+        scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE, overloaded).onErrorResume(e -> Mono.empty()).block();
+        assertThat(limit()).isEqualTo(9.0 * 0.9);
+    }
+
+    @Test
+    void schedule_whenAdaptiveAndClientError_keepsLimit() {
+        CallSchedulingProperties.Lane lane = new CallSchedulingProperties.Lane(
+                10, 2, 10, 10, Duration.ofSeconds(1), Duration.ofSeconds(1), true, 2, 2.0);
+        scheduler = new OutboundCallScheduler(
+                new CallSchedulingProperties(true, Map.of("google-places", lane)), meterRegistry);
+        Mono<String> rejected = Mono.error(new BusinessException(ErrorCode.UPSTREAM_RATE_LIMITED));
+
+        scheduler.schedule(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE, rejected).onErrorResume(e -> Mono.empty()).block();
+
+        assertThat(limit()).isEqualTo(10.0);
+    }
+
+    @Test
+    void schedule_whenDisabled_returnsCallUnchanged() {
+        OutboundCallScheduler unbounded = OutboundCallScheduler.unbounded(meterRegistry);
+        Mono<String> call = Mono.just("ok");
+
+        assertThat(unbounded.schedule(Upstream.GOOGLE_PLACES, CallPriority.BACKGROUND, call)).isSameAs(call);
+    }
+
+    private double limit() {
+        return meterRegistry.get("upstream.scheduler.limit").tag("upstream", "google-places").gauge().value();
+    }
+
+    private Mono<String> call(String name, List<String> started) {
+        return Mono.fromSupplier(() -> {
+            started.add(name);
+            return name;
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package com.travel.taipei.global.client;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestHedgerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hedger = new RequestHedger(
+                new HedgingProperties(true, 0.95, Duration.ofMillis(20), Duration.ofMillis(50), 1.0, 3, 10), meterRegistry);
+    }
+
+    @Test
+    void hedge_beforeMinSamples_sendsSingleAttempt() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = hedger.hedge(Upstream.GOOGLE_PLACES, "details", slowOnFirst(attempts)).block();
+
+        assertThat(result).isEqualTo("slow");
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void hedge_whenAttemptExceedsDelay_sendsHedgeAndUsesFirstResponse() {
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = hedger.hedge(Upstream.GOOGLE_PLACES, "details", slowOnFirst(attempts)).block();
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(hedgeCount("sent")).isEqualTo(1.0);
+        assertThat(hedgeCount("won")).isEqualTo(1.0);
+    }
+
+    @Test
+    void hedge_whenBudgetExhausted_waitsForOriginalAttempt() {
+        hedger = new RequestHedger(
+                new HedgingProperties(true, 0.95, Duration.ofMillis(20), Duration.ofMillis(50), 0.01, 3, 10), meterRegistry);
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = hedger.hedge(Upstream.GOOGLE_PLACES, "details", slowOnFirst(attempts)).block();
+
+        assertThat(result).isEqualTo("slow");
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(hedgeCount("budget_exhausted")).isEqualTo(1.0);
+    }
+
+    @Test
+    void hedge_whenHedgeFailsFirst_waitsForOriginalAttemptToSucceed() {
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> attempt = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.just("slow").delayElement(Duration.ofMillis(300))
+                : Mono.error(new BusinessException(ErrorCode.EXTERNAL_API_ERROR)));
+
+        String result = hedger.hedge(Upstream.GOOGLE_PLACES, "details", attempt).block();
+
+        assertThat(result).isEqualTo("slow");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(hedgeCount("sent")).isEqualTo(1.0);
+    }
+
+    @Test
+    void hedge_whenBothAttemptsFail_propagatesError() {
+        warmUp();
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> attempt = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.<String>error(new BusinessException(ErrorCode.EXTERNAL_API_ERROR)).delaySubscription(Duration.ofMillis(300))
+                : Mono.error(new BusinessException(ErrorCode.EXTERNAL_API_ERROR)));
+
+        assertThatThrownBy(() -> hedger.hedge(Upstream.GOOGLE_PLACES, "details", attempt).block())
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.EXTERNAL_API_ERROR.getMessage());
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < 3; i++) {
+            hedger.hedge(Upstream.GOOGLE_PLACES, "details", Mono.just("warm")).block();
+        }
+    }
+
+    private Mono<String> slowOnFirst(AtomicInteger attempts) {
+        return Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.just("slow").delayElement(Duration.ofMillis(300))
+                : Mono.just("fast"));
+    }
+
+    private double hedgeCount(String outcome) {
+        return meterRegistry.get("upstream.hedge").tag("outcome", outcome).counter().count();
+    }
+}
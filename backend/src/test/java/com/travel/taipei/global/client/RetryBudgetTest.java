@@ -0,0 +1,75 @@
+package com.travel.taipei.global.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class RetryBudgetTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryBudget retryBudget;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryBudget = new RetryBudget(
+                redisTemplate, new RetryBudgetProperties(true, 0.1, 10, Duration.ofSeconds(10)), meterRegistry);
+    }
+
+    @Test
+    void tryAcquire_passesPendingRequestCountToRedis() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(1L);
+        retryBudget.recordRequest(Upstream.OPENWEATHER);
+        retryBudget.recordRequest(Upstream.OPENWEATHER);
+
+        Boolean allowed = retryBudget.tryAcquire(Upstream.OPENWEATHER).block();
+
+        assertThat(allowed).isTrue();
+        then(redisTemplate).should().execute(any(RedisScript.class), anyList(), eq("2"), eq("0.1"), eq("10"), eq("30"));
+        assertThat(outcomeCount("allowed")).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_whenBudgetExhausted_returnsFalse() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(0L);
+
+        Boolean allowed = retryBudget.tryAcquire(Upstream.OPENWEATHER).block();
+
+        assertThat(allowed).isFalse();
+        assertThat(outcomeCount("exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_whenRedisUnavailable_allowsRetry() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        Boolean allowed = retryBudget.tryAcquire(Upstream.OPENWEATHER).block();
+
+        assertThat(allowed).isTrue();
+        assertThat(outcomeCount("unguarded")).isEqualTo(1);
+    }
+
+    private double outcomeCount(String outcome) {
+        return meterRegistry.get("upstream.retry_budget").tag("outcome", outcome).counter().count();
+    }
+}
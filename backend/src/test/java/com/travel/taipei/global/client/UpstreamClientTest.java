@@ -0,0 +1,223 @@
+package com.travel.taipei.global.client;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class UpstreamClientTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamClient upstreamClient;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        upstreamClient = new UpstreamClient(
+                meterRegistry, UpstreamRateLimiter.disabled(meterRegistry), OutboundCallScheduler.unbounded(meterRegistry),
+                RequestHedger.disabled(meterRegistry), RetryBudget.disabled(meterRegistry));
+    }
+
+    @Test
+    void call_whenSuccessful_recordsSuccessTimer() {
+        String result = upstreamClient.call(Upstream.OPENWEATHER, "weather", Mono.just("sunny"));
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(meterRegistry.get("upstream.requests")
+                .tags("upstream", "openweather", "endpoint", "weather", "outcome", "success", "retries", "0")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void call_whenServerErrorThenSuccess_recordsRetryCount() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(responseException(503))
+                : Mono.just("sunny"));
+
+        String result = upstreamClient.call(Upstream.OPENWEATHER, "weather", request);
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(meterRegistry.get("upstream.requests")
+                .tags("outcome", "success", "retries", "1")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void call_whenRetried_schedulesEachAttemptSeparately() {
+        CallSchedulingProperties.Lane lane = new CallSchedulingProperties.Lane(
+                1, 1, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(5), false, 1, 2.0);
+        UpstreamClient scheduledClient = new UpstreamClient(meterRegistry, UpstreamRateLimiter.disabled(meterRegistry),
+                new OutboundCallScheduler(new CallSchedulingProperties(true, Map.of("openweather", lane)), meterRegistry),
+                RequestHedger.disabled(meterRegistry), RetryBudget.disabled(meterRegistry));
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(responseException(503))
+                : Mono.just("sunny"));
+
+        String result = scheduledClient.call(Upstream.OPENWEATHER, "weather", request);
+
+        assertThat(result).isEqualTo("sunny");
+        assertThat(meterRegistry.get("upstream.scheduler.wait").tag("upstream", "openweather").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("upstream.scheduler.in_flight").tag("priority", "interactive").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void call_whenClientError_mapsToExternalApiErrorWithoutRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(responseException(400));
+        });
+
+        assertThatThrownBy(() -> upstreamClient.call(Upstream.GOOGLE_PLACES, "details", request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EXTERNAL_API_ERROR);
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("upstream.requests")
+                .tags("upstream", "google-places", "outcome", "client_error", "retries", "0")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void call_whenRateLimited_skipsRequestAndRecordsOutcome() {
+        UpstreamRateLimiter rateLimiter = mock(UpstreamRateLimiter.class);
+        given(rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE))
+                .willReturn(Mono.error(new BusinessException(ErrorCode.UPSTREAM_RATE_LIMITED)));
+        UpstreamClient limitedClient = new UpstreamClient(meterRegistry, rateLimiter, OutboundCallScheduler.unbounded(meterRegistry),
+                RequestHedger.disabled(meterRegistry), RetryBudget.disabled(meterRegistry));
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> request = Mono.fromCallable(() -> "place-" + attempts.incrementAndGet());
+
+        assertThatThrownBy(() -> limitedClient.call(Upstream.GOOGLE_PLACES, "nearbysearch", request))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.UPSTREAM_RATE_LIMITED);
+        assertThat(attempts.get()).isZero();
+        assertThat(meterRegistry.get("upstream.requests")
+                .tags("upstream", "google-places", "outcome", "rate_limited", "retries", "0")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void call_whenDeadlineExpired_failsWithoutRequest() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> request = Mono.fromCallable(() -> "sunny-" + attempts.incrementAndGet());
+
+        try (Deadline.Scope ignored = Deadline.after(Duration.ZERO).bind()) {
+            assertThatThrownBy(() -> upstreamClient.call(Upstream.OPENWEATHER, "weather", request))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.EXTERNAL_API_TIMEOUT);
+        }
+        assertThat(attempts.get()).isZero();
+        assertThat(meterRegistry.get("upstream.requests")
+                .tags("outcome", "deadline_exceeded")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void exchange_whenSubscribedOnAnotherThread_usesDeadlineCapturedInContext() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> request = Mono.fromCallable(() -> "sunny-" + attempts.incrementAndGet());
+
+        Mono<String> call;
+        try (Deadline.Scope ignored = Deadline.after(Duration.ZERO).bind()) {
+            call = upstreamClient.exchange(Upstream.OPENWEATHER, "weather", request)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .contextWrite(CallContext.capture());
+        }
+
+        assertThatThrownBy(call::block)
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EXTERNAL_API_TIMEOUT);
+        assertThat(attempts.get()).isZero();
+    }
+
+    @Test
+    void exchange_whenSubscribedOnAnotherThread_usesPriorityCapturedInContext() {
+        UpstreamRateLimiter rateLimiter = mock(UpstreamRateLimiter.class);
+        given(rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.BACKGROUND)).willReturn(Mono.empty());
+        UpstreamClient prioritizedClient = new UpstreamClient(meterRegistry, rateLimiter, OutboundCallScheduler.unbounded(meterRegistry),
+                RequestHedger.disabled(meterRegistry), RetryBudget.disabled(meterRegistry));
+
+        Mono<String> call = CallPriority.callInBackground(() ->
+                prioritizedClient.exchange(Upstream.GOOGLE_PLACES, "nearbysearch", Mono.just("place"))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .contextWrite(CallContext.capture()));
+
+        assertThat(call.block()).isEqualTo("place");
+    }
+
+    @Test
+    void call_whenBackoffExceedsRemainingDeadline_skipsRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(responseException(503));
+        });
+
+        try (Deadline.Scope ignored = Deadline.after(Duration.ofMillis(300)).bind()) {
+            assertThatThrownBy(() -> upstreamClient.call(Upstream.OPENWEATHER, "weather", request))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.EXTERNAL_API_ERROR);
+        }
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("upstream.retry_skipped").tag("reason", "deadline").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void call_whenRequestOutlivesDeadline_failsWithTimeout() {
+        Mono<String> request = Mono.just("sunny").delayElement(Duration.ofSeconds(5));
+
+        try (Deadline.Scope ignored = Deadline.after(Duration.ofMillis(100)).bind()) {
+            assertThatThrownBy(() -> upstreamClient.call(Upstream.OPENWEATHER, "weather", request))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.EXTERNAL_API_TIMEOUT);
+        }
+    }
+
+    @Test
+    void call_whenRetryBudgetExhausted_skipsRetry() {
+        RetryBudget retryBudget = mock(RetryBudget.class);
+        given(retryBudget.tryAcquire(Upstream.OPENWEATHER)).willReturn(Mono.just(false));
+        UpstreamClient budgetedClient = new UpstreamClient(meterRegistry, UpstreamRateLimiter.disabled(meterRegistry),
+                OutboundCallScheduler.unbounded(meterRegistry), RequestHedger.disabled(meterRegistry), retryBudget);
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> request = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(responseException(503));
+        });
+
+        assertThatThrownBy(() -> budgetedClient.call(Upstream.OPENWEATHER, "weather", request))
+                .isInstanceOf(BusinessException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("upstream.retry_skipped").tag("reason", "budget_exhausted").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private WebClientResponseException responseException(int status) {
+        return WebClientResponseException.create(status, "error", HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
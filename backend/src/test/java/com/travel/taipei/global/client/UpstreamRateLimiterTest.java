@@ -0,0 +1,105 @@
+package com.travel.taipei.global.client;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class UpstreamRateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(
+                10, 5, Duration.ofMillis(300), 2, 100, ZoneOffset.UTC, 3, 20);
+        rateLimiter = new UpstreamRateLimiter(
+                redisTemplate, new RateLimitProperties(true, Map.of("google-places", limit)), meterRegistry);
+    }
+
+    @Test
+    void acquire_whenTokenAvailable_completesAndUpdatesQuotaGauge() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(List.of(0L, 99L));
+
+        rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE).block();
+
+        assertThat(meterRegistry.get("upstream.quota.remaining").tag("upstream", "google-places").gauge().value())
+                .isEqualTo(99.0);
+        assertThat(outcomeCount("acquired")).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_whenNextTokenArrivesWithinMaxWait_waitsAndCompletes() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of(50L, 10L), List.of(0L, 9L));
+
+        rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE).block();
+
+        assertThat(outcomeCount("waited")).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_whenWaitExceedsMaxWait_rejects() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(List.of(1_000L, 10L));
+
+        assertThatThrownBy(() -> rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE).block())
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.UPSTREAM_RATE_LIMITED);
+        assertThat(outcomeCount("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_whenDailyQuotaExhausted_rejectsWithoutWaiting() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(List.of(-1L, 0L));
+
+        assertThatThrownBy(() -> rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE).block())
+                .isInstanceOf(BusinessException.class);
+        assertThat(outcomeCount("quota_exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_whenRedisUnavailable_letsCallThrough() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        rateLimiter.acquire(Upstream.GOOGLE_PLACES, CallPriority.INTERACTIVE).block();
+
+        assertThat(outcomeCount("unguarded")).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_whenUpstreamHasNoLimit_skipsRedis() {
+        rateLimiter.acquire(Upstream.KOREAEXIM, CallPriority.INTERACTIVE).block();
+
+        assertThat(meterRegistry.find("upstream.rate_limit").counters()).isEmpty();
+    }
+
+    private double outcomeCount(String outcome) {
+        return meterRegistry.get("upstream.rate_limit").tags("upstream", "google-places", "outcome", outcome).counter().count();
+    }
+}
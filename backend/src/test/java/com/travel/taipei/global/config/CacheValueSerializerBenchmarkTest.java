@@ -0,0 +1,94 @@
+package com.travel.taipei.global.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.taipei.global.cache.CacheEnvelope;
+import com.travel.taipei.global.cache.TypedCacheValueSerializer;
+import com.travel.taipei.spot.domain.SpotPage;
+import com.travel.taipei.spot.interfaces.dto.SpotResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// spots 캐시 값(20곳 한 페이지)을 타입 바인딩 Smile과 기본 타이핑 JSON으로 직렬화·역직렬화하는 처리량을 비교한다.
+// 크기와 왕복 정확성은 CacheValueSerializerComparisonTest가 본다. ./gradlew benchmark 로 실행한다.
+@Tag("benchmark")
+class CacheValueSerializerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheValueSerializerBenchmarkTest.class);
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Test
+    void compareSmileAndDefaultTypingJsonThroughput() {
+        RedisSerializer<Object> jsonSerializer = new GenericJackson2JsonRedisSerializer(RedisConfig.redisObjectMapper());
+        ObjectMapper smileMapper = RedisConfig.cacheSmileMapper();
+        JavaType spotsType = RedisConfig.cacheValueTypes(smileMapper.getTypeFactory()).get("spots");
+        RedisSerializer<Object> smileSerializer = new TypedCacheValueSerializer(smileMapper, spotsType, jsonSerializer);
+        CacheEnvelope<SpotPage> envelope = envelope();
+
+        Throughput json = measure(jsonSerializer, envelope);
+        Throughput smile = measure(smileSerializer, envelope);
+
+        log.info("[CacheValueSerializerBenchmark] spots(20) json={}B ser={}ops/s deser={}ops/s, smile={}B ser={}ops/s deser={}ops/s",
+                json.bytes(), json.serializeOpsPerSecond(), json.deserializeOpsPerSecond(),
+                smile.bytes(), smile.serializeOpsPerSecond(), smile.deserializeOpsPerSecond());
+
+        assertThat(smileSerializer.deserialize(smileSerializer.serialize(envelope))).isEqualTo(envelope);
+    }
+
+    private Throughput measure(RedisSerializer<Object> serializer, CacheEnvelope<SpotPage> envelope) {
+        byte[] bytes = serializer.serialize(envelope);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            serializer.deserialize(serializer.serialize(envelope));
+        }
+
+        long serializeStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.serialize(envelope);
+        }
+        long serializeNanos = System.nanoTime() - serializeStart;
+
+        long deserializeStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserialize(bytes);
+        }
+        long deserializeNanos = System.nanoTime() - deserializeStart;
+
+        return new Throughput(bytes.length, opsPerSecond(serializeNanos), opsPerSecond(deserializeNanos));
+    }
+
+    private static long opsPerSecond(long nanos) {
+        return ITERATIONS * 1_000_000_000L / Math.max(1L, nanos);
+    }
+
+    private static CacheEnvelope<SpotPage> envelope() {
+        List<SpotResponse> spots = IntStream.range(0, 20)
+                .mapToObj(i -> new SpotResponse(
+                        "ChIJ-place-" + i,
+                        "Taipei Spot " + i,
+                        "ATTRACTION",
+                        4.0 + (i % 10) / 10.0,
+                        "No. " + i + ", Section 1, Zhongxiao East Road, Taipei",
+                        "/api/spots/photo?ref=photo-" + i,
+                        25.03 + i * 0.001,
+                        121.56 + i * 0.001,
+                        i * 0.1,
+                        "현재 위치에서 가까운 관광지"
+                ))
+                .toList();
+        return CacheEnvelope.of(new SpotPage(1, spots, false), 1_000L, Duration.ofMinutes(10), Duration.ofHours(1));
+    }
+
+    private record Throughput(int bytes, long serializeOpsPerSecond, long deserializeOpsPerSecond) {
+    }
+}
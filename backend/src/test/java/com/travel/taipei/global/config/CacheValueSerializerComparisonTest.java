@@ -0,0 +1,75 @@
+package com.travel.taipei.global.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travel.taipei.global.cache.CacheEnvelope;
+import com.travel.taipei.global.cache.TypedCacheValueSerializer;
+import com.travel.taipei.spot.domain.SpotPage;
+import com.travel.taipei.spot.interfaces.dto.SpotResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheValueSerializerComparisonTest {
+
+    private RedisSerializer<Object> jsonSerializer;
+    private TypedCacheValueSerializer smileSerializer;
+    private CacheEnvelope<SpotPage> envelope;
+
+    @BeforeEach
+    void setUp() {
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(RedisConfig.redisObjectMapper());
+        ObjectMapper smileMapper = RedisConfig.cacheSmileMapper();
+        JavaType spotsType = RedisConfig.cacheValueTypes(smileMapper.getTypeFactory()).get("spots");
+        smileSerializer = new TypedCacheValueSerializer(smileMapper, spotsType, jsonSerializer);
+
+        List<SpotResponse> spots = IntStream.range(0, 20)
+                .mapToObj(i -> new SpotResponse(
+                        "ChIJ-place-" + i,
+                        "Taipei Spot " + i,
+                        "ATTRACTION",
+                        4.0 + (i % 10) / 10.0,
+                        "No. " + i + ", Section 1, Zhongxiao East Road, Taipei",
+                        "/api/spots/photo?ref=photo-" + i,
+                        25.03 + i * 0.001,
+                        121.56 + i * 0.001,
+                        i * 0.1,
+                        "현재 위치에서 가까운 관광지"
+                ))
+                .toList();
+        envelope = CacheEnvelope.of(new SpotPage(1, spots, false), 1_000L, Duration.ofMinutes(10), Duration.ofHours(1));
+    }
+
+    @Test
+    void smile_roundTripsTypedEnvelope() {
+        Object restored = smileSerializer.deserialize(smileSerializer.serialize(envelope));
+
+        assertThat(restored).isEqualTo(envelope);
+        assertThat(((CacheEnvelope<?>) restored).value()).isInstanceOf(SpotPage.class);
+        assertThat(((SpotPage) ((CacheEnvelope<?>) restored).value()).spots()).first().isInstanceOf(SpotResponse.class);
+    }
+
+    @Test
+    void smile_readsLegacyJsonEntries() {
+        byte[] legacy = jsonSerializer.serialize(envelope);
+
+        Object restored = smileSerializer.deserialize(legacy);
+
+        assertThat(restored).isEqualTo(envelope);
+    }
+
+    @Test
+    void smile_isSmallerThanDefaultTypingJson() {
+        byte[] json = jsonSerializer.serialize(envelope);
+        byte[] smile = smileSerializer.serialize(envelope);
+
+        assertThat(smile.length).isLessThan(json.length * 3 / 4);
+    }
+}
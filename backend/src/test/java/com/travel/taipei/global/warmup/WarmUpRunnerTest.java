@@ -0,0 +1,73 @@
+package com.travel.taipei.global.warmup;
+
+import com.travel.taipei.exchange.application.ExchangeService;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.spot.application.SpotService;
+import com.travel.taipei.weather.application.WeatherService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpRunnerTest {
+
+    @Mock
+    private WebClient webClient;
+
+    @Mock
+    private WeatherService weatherService;
+
+    @Mock
+    private ExchangeService exchangeService;
+
+    @Mock
+    private SpotService spotService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WarmUpRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        runner = new WarmUpRunner(webClient, weatherService, exchangeService, spotService, meterRegistry);
+        ReflectionTestUtils.setField(runner, "timeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(runner, "jitIterations", 3);
+        ReflectionTestUtils.setField(runner, "placesUrl", "https://example.com/places");
+        ReflectionTestUtils.setField(runner, "weatherUrl", "https://example.com/weather");
+        ReflectionTestUtils.setField(runner, "exchangeUrl", "https://example.com/exchange");
+        ReflectionTestUtils.setField(runner, "exchangeFallbackUrl", "https://example.org/latest");
+    }
+
+    @Test
+    void run_whenOneStepFails_reportsPartialAndExercisesWarmedSteps() {
+        given(weatherService.getWeather()).willThrow(new BusinessException(ErrorCode.EXTERNAL_API_ERROR));
+
+        runner.run(new DefaultApplicationArguments());
+
+        verify(weatherService, times(1)).getWeather();
+        verify(weatherService, times(4)).getForecast();
+        verify(exchangeService, times(4)).getExchangeRate();
+        verify(spotService, times(12)).getSpots(anyString(), isNull(), isNull(), any(), anyBoolean(), isNull());
+        assertThat(meterRegistry.get("warmup.duration").tag("outcome", "partial").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("warmup.steps").tags("step", "weather", "outcome", "failed").counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,181 @@
+package com.travel.taipei.spot.application;
+
+import com.travel.taipei.spot.domain.OpeningHours;
+import com.travel.taipei.spot.domain.Place;
+import com.travel.taipei.spot.domain.PlaceId;
+import com.travel.taipei.spot.domain.PlaceRepository;
+import com.travel.taipei.spot.domain.SpotSearchCriteria;
+import com.travel.taipei.spot.domain.SpotType;
+import com.travel.taipei.spot.infrastructure.SpotApiClient;
+import com.travel.taipei.spot.interfaces.dto.SpotResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceCatalogTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private SpotApiClient spotApiClient;
+
+    private PlaceCatalog placeCatalog;
+
+    @BeforeEach
+    void setUp() {
+        placeCatalog = new PlaceCatalog(placeRepository, spotApiClient, new SimpleMeterRegistry(), true, 500, Duration.ofHours(6), Duration.ofDays(30), 3.0, 20);
+    }
+
+    @Test
+    void findNearby_whenAreaNeverSearched_misses() {
+        assertThat(placeCatalog.findNearby(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 1000, null))).isEmpty();
+    }
+
+    @Test
+    void findNearby_whenRecordedSearchCoversRequest_answersFromIndex() {
+        placeCatalog.record(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 2000, null), List.of(
+                spot("near", 25.0335, 121.5654, 4.6),
+                spot("low", 25.0336, 121.5654, 3.5)
+        ), true);
+
+        assertThat(placeCatalog.findNearby(SpotType.RESTAURANT, criteria(25.0332, 121.5654, 1000, 4.0)))
+                .hasValueSatisfying(spots -> assertThat(spots).extracting(SpotResponse::id).containsExactly("near"));
+    }
+
+    @Test
+    void findNearby_whenRecordedSearchTooWide_misses() {
+        placeCatalog.record(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 20000, null), List.of(
+                spot("near", 25.0335, 121.5654, 4.6)
+        ), true);
+
+        assertThat(placeCatalog.findNearby(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 500, null))).isEmpty();
+    }
+
+    @Test
+    void findNearby_whenRecordedSearchWasFiltered_misses() {
+        placeCatalog.record(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 2000, 4.5), List.of(
+                spot("near", 25.0335, 121.5654, 4.6)
+        ), true);
+
+        assertThat(placeCatalog.findNearby(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 1000, 4.5))).isEmpty();
+    }
+
+    @Test
+    void findNearby_whenRecordedSearchWasTruncated_misses() {
+        placeCatalog.record(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 2000, null), List.of(
+                spot("near", 25.0335, 121.5654, 4.6)
+        ), false);
+
+        assertThat(placeCatalog.findNearby(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 1000, null))).isEmpty();
+    }
+
+    @Test
+    void findNearby_whenLastPageRecorded_coversAllPages() {
+        SpotSearchCriteria searched = criteria(25.0330, 121.5654, 2000, null);
+        placeCatalog.record(SpotType.RESTAURANT, searched, List.of(spot("first", 25.0335, 121.5654, 4.6)), false);
+        placeCatalog.record(SpotType.RESTAURANT, searched, List.of(spot("second", 25.0336, 121.5654, 4.2)), true);
+
+        assertThat(placeCatalog.findNearby(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 1000, null)))
+                .hasValueSatisfying(spots -> assertThat(spots).extracting(SpotResponse::id).containsExactly("first", "second"));
+    }
+
+    @Test
+    void record_whenCompleteSearchNoLongerReturnsPlace_evictsItFromIndexAndTable() {
+        SpotSearchCriteria searched = criteria(25.0330, 121.5654, 2000, null);
+        placeCatalog.record(SpotType.RESTAURANT, searched, List.of(
+                spot("open", 25.0335, 121.5654, 4.6),
+                spot("closed", 25.0336, 121.5654, 4.2)
+        ), true);
+        placeCatalog.record(SpotType.RESTAURANT, criteria(25.0500, 121.5654, 1000, null), List.of(
+                spot("elsewhere", 25.0500, 121.5654, 4.0)
+        ), true);
+
+        placeCatalog.record(SpotType.RESTAURANT, searched, List.of(spot("open", 25.0335, 121.5654, 4.6)), true);
+
+        assertThat(placeCatalog.findNearby(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 1000, null)))
+                .hasValueSatisfying(spots -> assertThat(spots).extracting(SpotResponse::id).containsExactly("open"));
+        assertThat(placeCatalog.findNearby(SpotType.RESTAURANT, criteria(25.0500, 121.5654, 500, null)))
+                .hasValueSatisfying(spots -> assertThat(spots).extracting(SpotResponse::id).containsExactly("elsewhere"));
+        verify(placeRepository, timeout(1000)).deleteAllById(List.of(new PlaceId("closed", SpotType.RESTAURANT)));
+    }
+
+    @Test
+    void record_whenLastPageRecorded_keepsPlacesFromEarlierPages() {
+        SpotSearchCriteria searched = criteria(25.0330, 121.5654, 2000, null);
+        placeCatalog.record(SpotType.RESTAURANT, searched, List.of(spot("first", 25.0335, 121.5654, 4.6)), true);
+        placeCatalog.record(SpotType.RESTAURANT, searched, List.of(spot("first", 25.0335, 121.5654, 4.6)), false);
+        placeCatalog.record(SpotType.RESTAURANT, searched, List.of(spot("second", 25.0336, 121.5654, 4.2)), true);
+
+        assertThat(placeCatalog.findNearby(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 1000, null)))
+                .hasValueSatisfying(spots -> assertThat(spots).extracting(SpotResponse::id).containsExactly("first", "second"));
+    }
+
+    @Test
+    void knowsHoursAround_whenMostNearbyHoursKnown_returnsTrue() {
+        placeCatalog.record(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 2000, null), List.of(
+                spot("known-1", 25.0331, 121.5654, 4.6),
+                spot("known-2", 25.0332, 121.5654, 4.2),
+                spot("unknown", 25.0333, 121.5654, 4.0)
+        ), true);
+        placeCatalog.recordHours("known-1", OpeningHours.alwaysOpen());
+        placeCatalog.recordHours("known-2", OpeningHours.none());
+
+        assertThat(placeCatalog.knowsHoursAround(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 1000, null), 2, 0.6)).isTrue();
+        assertThat(placeCatalog.knowsHoursAround(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 1000, null), 2, 0.8)).isFalse();
+        assertThat(placeCatalog.knowsHoursAround(SpotType.CAFE, criteria(25.0330, 121.5654, 1000, null), 1, 0.0)).isFalse();
+    }
+
+    @Test
+    void load_whenPlaceStoredUnderTwoTypes_indexesBothWithPhotoUrlFromReference() {
+        given(placeRepository.findByUpdatedAtAfter(any())).willReturn(List.of(
+                place("dual", SpotType.RESTAURANT, "ref-1"),
+                place("dual", SpotType.CAFE, "ref-1")));
+        given(spotApiClient.photoUrl("ref-1")).willReturn("https://example.com/photo?photo_reference=ref-1&key=current");
+        SpotSearchCriteria searched = criteria(25.0330, 121.5654, 2000, null);
+        placeCatalog.record(SpotType.RESTAURANT, searched, List.of(), true);
+        placeCatalog.record(SpotType.CAFE, searched, List.of(), true);
+
+        placeCatalog.load();
+
+        assertThat(placeCatalog.findNearby(SpotType.RESTAURANT, criteria(25.0330, 121.5654, 1000, null)))
+                .hasValueSatisfying(spots -> assertThat(spots).extracting(SpotResponse::photoUrl)
+                        .containsExactly("https://example.com/photo?photo_reference=ref-1&key=current"));
+        assertThat(placeCatalog.findNearby(SpotType.CAFE, criteria(25.0330, 121.5654, 1000, null)))
+                .hasValueSatisfying(spots -> assertThat(spots).extracting(SpotResponse::id).containsExactly("dual"));
+    }
+
+    private Place place(String id, SpotType type, String photoReference) {
+        return Place.builder()
+                .placeId(id)
+                .type(type)
+                .name(id)
+                .photoReference(photoReference)
+                .lat(25.0331)
+                .lng(121.5654)
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    private SpotSearchCriteria criteria(double lat, double lng, int radius, Double minRating) {
+        return SpotSearchCriteria.from(lat, lng, radius, false, minRating);
+    }
+
+    private SpotResponse spot(String id, double lat, double lng, Double rating) {
+        return new SpotResponse(id, id, "restaurant", rating, null, null, lat, lng, 0.0, null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.travel.taipei.spot.application;
+
+import com.travel.taipei.spot.domain.SpotType;
+import com.travel.taipei.spot.interfaces.dto.SpotResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaceIndexTest {
+
+    private final PlaceIndex index = new PlaceIndex(500);
+
+    @Test
+    void nearest_returnsPlacesWithinRadiusOrderedByDistance() {
+        index.put(SpotType.RESTAURANT, spot("far", 25.0500, 121.5654, 4.8));
+        index.put(SpotType.RESTAURANT, spot("near", 25.0335, 121.5654, 4.0));
+        index.put(SpotType.RESTAURANT, spot("middle", 25.0380, 121.5654, 4.2));
+        index.put(SpotType.CAFE, spot("cafe", 25.0331, 121.5654, 4.9));
+
+        List<SpotResponse> result = index.nearest(SpotType.RESTAURANT, 25.0330, 121.5654, 1000, null, 10);
+
+        assertThat(result).extracting(SpotResponse::id).containsExactly("near", "middle");
+    }
+
+    @Test
+    void nearest_appliesMinRatingAndLimit() {
+        index.put(SpotType.RESTAURANT, spot("a", 25.0331, 121.5654, 4.6));
+        index.put(SpotType.RESTAURANT, spot("b", 25.0332, 121.5654, 3.9));
+        index.put(SpotType.RESTAURANT, spot("c", 25.0333, 121.5654, 4.7));
+        index.put(SpotType.RESTAURANT, spot("d", 25.0334, 121.5654, null));
+
+        List<SpotResponse> result = index.nearest(SpotType.RESTAURANT, 25.0330, 121.5654, 1000, 4.5, 1);
+
+        assertThat(result).extracting(SpotResponse::id).containsExactly("a");
+    }
+
+    @Test
+    void put_whenPlaceMoves_replacesPreviousLocation() {
+        index.put(SpotType.RESTAURANT, spot("moved", 25.0331, 121.5654, 4.0));
+        index.put(SpotType.RESTAURANT, spot("moved", 25.1000, 121.5654, 4.0));
+
+        assertThat(index.nearest(SpotType.RESTAURANT, 25.0330, 121.5654, 1000, null, 10)).isEmpty();
+        assertThat(index.nearest(SpotType.RESTAURANT, 25.1000, 121.5654, 1000, null, 10)).hasSize(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void retainWithin_removesOnlyUnkeptPlacesInsideRadius() {
+        index.put(SpotType.RESTAURANT, spot("kept", 25.0331, 121.5654, 4.0));
+        index.put(SpotType.RESTAURANT, spot("closed", 25.0335, 121.5654, 4.0));
+        index.put(SpotType.RESTAURANT, spot("outside", 25.0500, 121.5654, 4.0));
+        index.put(SpotType.CAFE, spot("closed", 25.0335, 121.5654, 4.0));
+
+        List<String> removed = index.retainWithin(SpotType.RESTAURANT, 25.0330, 121.5654, 1000, Set.of("kept"));
+
+        assertThat(removed).containsExactly("closed");
+        assertThat(index.nearest(SpotType.RESTAURANT, 25.0330, 121.5654, 5000, null, 10))
+                .extracting(SpotResponse::id).containsExactly("kept", "outside");
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void nearest_whenRadiusSpansManyCells_scansAllBuckets() {
+        index.put(SpotType.ATTRACTION, spot("taipei-101", 25.0340, 121.5645, 4.6));
+
+        List<SpotResponse> result = index.nearest(SpotType.ATTRACTION, 25.0330, 121.5654, 50000, null, 20);
+
+        assertThat(result).extracting(SpotResponse::id).containsExactly("taipei-101");
+    }
+
+    private SpotResponse spot(String id, double lat, double lng, Double rating) {
+        return new SpotResponse(id, id, "restaurant", rating, null, null, lat, lng, 0.0, null);
+    }
+}
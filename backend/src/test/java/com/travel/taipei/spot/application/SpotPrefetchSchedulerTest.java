@@ -0,0 +1,175 @@
+package com.travel.taipei.spot.application;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.spot.domain.SpotSearchCriteria;
+import com.travel.taipei.spot.domain.SpotType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SpotPrefetchSchedulerTest {
+
+    private static final String TODAY = LocalDate.now(ZoneId.of("Asia/Taipei")).format(DateTimeFormatter.BASIC_ISO_DATE);
+
+    @Mock
+    private SpotService spotService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SpotPrefetchScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new SpotPrefetchScheduler(
+                spotService, redisTemplate, meterRegistry,
+                true, true, 300,
+                25.030, 25.031, 121.560, 121.570,
+                5000, new String[]{"RESTAURANT", "CAFE"}, 10, Duration.ZERO, Duration.ofHours(24), "21:00", 100);
+    }
+
+    @Test
+    void tile_cellCentersSnapToThemselves() {
+        List<SpotPrefetchScheduler.Tile> tiles = SpotPrefetchScheduler.tile(300, 25.02, 25.07, 121.50, 121.58);
+
+        assertThat(tiles).isNotEmpty();
+        for (SpotPrefetchScheduler.Tile tile : tiles) {
+            SpotSearchCriteria snapped = SpotSearchCriteria.from(tile.lat(), tile.lng(), 5000, false, null).snapToGrid(300);
+            assertThat(snapped.lat()).isEqualTo(tile.lat());
+            assertThat(snapped.lng()).isEqualTo(tile.lng());
+        }
+    }
+
+    @Test
+    void crawlBatch_resumesFromProgressAndStopsWhenRateLimited() {
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("spot:prefetch:progress")).willReturn(Map.of("pass", TODAY, "next", "1"));
+        given(hashOperations.entries("spot:prefetch:tiles")).willReturn(Map.of());
+        given(spotService.prefetch(any(), any(), any()))
+                .willReturn(3)
+                .willThrow(new BusinessException(ErrorCode.UPSTREAM_RATE_LIMITED));
+
+        scheduler.crawlBatch();
+
+        // next=1은 첫 셀의 CAFE, next=2는 둘째 셀의 RESTAURANT에서 한도에 걸린다.
+        verify(spotService).prefetch(eq(SpotType.CAFE), any(), any());
+        verify(spotService).prefetch(eq(SpotType.RESTAURANT), any(), any());
+        verify(hashOperations).putAll("spot:prefetch:progress", Map.of("pass", TODAY, "start", "0", "next", "2", "calls", "3"));
+        verify(hashOperations, times(1)).putAll(eq("spot:prefetch:progress"), any());
+        verify(hashOperations, times(1)).put(eq("spot:prefetch:tiles"), any(), any());
+        assertThat(meterRegistry.get("spot.prefetch.cells").tag("outcome", "deferred").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void crawlBatch_skipsTilesThatStayFreshPastNextPeak() {
+        long now = System.currentTimeMillis();
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("spot:prefetch:progress")).willReturn(Map.of());
+        given(hashOperations.entries("spot:prefetch:tiles")).willReturn(Map.of(
+                "RESTAURANT:" + firstTile().row() + ":" + firstTile().col(),
+                now + "," + (now + Duration.ofHours(25).toMillis())));
+        given(spotService.prefetch(any(), any(), any())).willThrow(new BusinessException(ErrorCode.UPSTREAM_BUSY));
+
+        scheduler.crawlBatch();
+
+        verify(spotService, never()).prefetch(eq(SpotType.RESTAURANT), any(), any());
+        verify(spotService).prefetch(eq(SpotType.CAFE), any(), any());
+        assertThat(meterRegistry.get("spot.prefetch.cells").tag("outcome", "skipped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void crawlBatch_whenTileGoesStaleBeforeNextPeakEnds_refetchesIt() {
+        long now = System.currentTimeMillis();
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("spot:prefetch:progress")).willReturn(Map.of());
+        given(hashOperations.entries("spot:prefetch:tiles")).willReturn(Map.of(
+                "RESTAURANT:" + firstTile().row() + ":" + firstTile().col(),
+                (now - Duration.ofHours(2).toMillis()) + "," + (now - Duration.ofHours(1).toMillis())));
+        given(spotService.prefetch(any(), any(), any())).willThrow(new BusinessException(ErrorCode.UPSTREAM_BUSY));
+
+        scheduler.crawlBatch();
+
+        verify(spotService).prefetch(eq(SpotType.RESTAURANT), any(), any());
+        assertThat(meterRegistry.find("spot.prefetch.cells").tag("outcome", "skipped").counter()).isNull();
+    }
+
+    @Test
+    void crawlBatch_whenCallBudgetSpent_stopsUntilNextPass() {
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("spot:prefetch:progress")).willReturn(Map.of("pass", TODAY, "next", "0", "calls", "99"));
+        given(hashOperations.entries("spot:prefetch:tiles")).willReturn(Map.of());
+        given(spotService.prefetch(any(), any(), any())).willReturn(6);
+
+        scheduler.crawlBatch();
+
+        verify(spotService, times(1)).prefetch(any(), any(), any());
+        verify(hashOperations).putAll("spot:prefetch:progress", Map.of("pass", TODAY, "start", "0", "next", "1", "calls", "105"));
+    }
+
+    @Test
+    void crawlBatch_whenPassIsFromPreviousDay_continuesWherePreviousPassStopped() {
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("spot:prefetch:progress")).willReturn(Map.of("pass", "20000101", "next", "5"));
+        given(hashOperations.entries("spot:prefetch:tiles")).willReturn(Map.of());
+        given(spotService.prefetch(any(), any(), any())).willThrow(new BusinessException(ErrorCode.UPSTREAM_BUSY));
+
+        scheduler.crawlBatch();
+
+        // 지난 pass가 5번째 위치에서 멈췄으므로 셋째 셀의 CAFE부터 시작한다.
+        SpotPrefetchScheduler.Tile third = SpotPrefetchScheduler.tile(300, 25.030, 25.031, 121.560, 121.570).get(2);
+        verify(spotService).prefetch(eq(SpotType.CAFE),
+                eq(SpotSearchCriteria.from(third.lat(), third.lng(), 5000, false, null).snapToGrid(300)), any());
+        verify(hashOperations, never()).putAll(eq("spot:prefetch:progress"), any());
+    }
+
+    @Test
+    void crawlBatch_writesCellsFreshUntilTheNextPeakEnds() {
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("spot:prefetch:progress")).willReturn(Map.of());
+        given(hashOperations.entries("spot:prefetch:tiles")).willReturn(Map.of());
+        given(spotService.prefetch(any(), any(), any()))
+                .willReturn(1)
+                .willThrow(new BusinessException(ErrorCode.UPSTREAM_BUSY));
+
+        scheduler.crawlBatch();
+
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Taipei"));
+        ZonedDateTime peakEnd = now.with(LocalTime.of(21, 0));
+        Instant expected = (peakEnd.isBefore(now) ? peakEnd.plusDays(1) : peakEnd).toInstant();
+        verify(spotService).prefetch(eq(SpotType.RESTAURANT), any(), eq(expected));
+    }
+
+    private SpotPrefetchScheduler.Tile firstTile() {
+        return SpotPrefetchScheduler.tile(300, 25.030, 25.031, 121.560, 121.570).get(0);
+    }
+}
@@ -1,23 +1,51 @@
 package com.travel.taipei.spot.application;
 
+import com.travel.taipei.global.cache.CacheSpecProperties;
+import com.travel.taipei.global.cache.CacheValueFormat;
+import com.travel.taipei.global.cache.StaleWhileRevalidateCache;
 import com.travel.taipei.global.exception.BusinessException;
 import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.spot.domain.OpeningHours;
+import com.travel.taipei.spot.domain.SpotDetails;
+import com.travel.taipei.spot.domain.SpotPage;
+import com.travel.taipei.spot.domain.SpotSearchCriteria;
+import com.travel.taipei.spot.domain.SpotType;
 import com.travel.taipei.spot.infrastructure.SpotApiClient;
 import com.travel.taipei.spot.interfaces.dto.SpotDetailResponse;
+import com.travel.taipei.spot.interfaces.dto.SpotPageResponse;
 import com.travel.taipei.spot.interfaces.dto.SpotResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +54,12 @@ class SpotServiceTest {
     @Mock
     private SpotApiClient spotApiClient;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PlaceCatalog placeCatalog;
+
     @InjectMocks
     private SpotService spotService;
 
@@ -43,7 +77,7 @@ class SpotServiceTest {
                 0.3,
                 "가깝고 평점이 높아 추천해요."
         );
-        given(spotApiClient.searchNearby(any(), any())).willReturn(List.of(spot));
+        given(spotApiClient.searchNearby(any(), any())).willReturn(page(spot));
 
         List<SpotResponse> result = spotService.getSpots("restaurant", null, null, 5000, false, null);
 
@@ -70,6 +104,323 @@ class SpotServiceTest {
         verifyNoInteractions(spotApiClient);
     }
 
+    @Test
+    void getSpots_whenGridEnabled_nearbyOriginsShareUpstreamSearch() {
+        ReflectionTestUtils.setField(spotService, "gridEnabled", true);
+        ReflectionTestUtils.setField(spotService, "gridCellSizeMeters", 300);
+        given(cacheManager.getCache("spots")).willReturn(new ConcurrentMapCache("spots"));
+        given(spotApiClient.searchNearby(any(), any())).willReturn(page());
+        given(spotApiClient.rerank(any(), any())).willReturn(List.of());
+
+        spotService.getSpots("restaurant", 25.03301, 121.56541, 5000, false, null);
+        spotService.getSpots("restaurant", 25.03303, 121.56544, 5000, false, 4.0);
+
+        verify(spotApiClient, times(1)).searchNearby(any(), any());
+        verify(spotApiClient).rerank(List.of(), SpotSearchCriteria.from(25.03303, 121.56544, 5000, false, 4.0));
+    }
+
+    @Test
+    void getSpots_whenCatalogCoversArea_answersLocallyWithoutUpstream() {
+        SpotResponse spot = new SpotResponse(
+                "place-1", "鼎泰豐", "restaurant", 4.5, "台北市信義區", null, 25.033, 121.565, 0.0, null);
+        SpotSearchCriteria criteria = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+        given(placeCatalog.findNearby(SpotType.RESTAURANT, criteria)).willReturn(Optional.of(List.of(spot)));
+        given(spotApiClient.rerank(List.of(spot), criteria)).willReturn(List.of(spot));
+
+        List<SpotResponse> result = spotService.getSpots("restaurant", 25.033, 121.565, 1000, false, null);
+
+        assertThat(result).containsExactly(spot);
+        verify(spotApiClient, never()).searchNearby(any(), any());
+    }
+
+    @Test
+    void getSpots_whenCatalogMisses_recordsUpstreamResult() {
+        SpotSearchCriteria criteria = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+        given(spotApiClient.searchNearby(SpotType.RESTAURANT, criteria)).willReturn(page());
+
+        spotService.getSpots("restaurant", 25.033, 121.565, 1000, false, null);
+
+        verify(placeCatalog).record(SpotType.RESTAURANT, criteria, List.of(), true);
+    }
+
+    @Test
+    void prefetch_whenGridEnabled_laterRequestInCellIsServedFromCache() {
+        ReflectionTestUtils.setField(spotService, "gridEnabled", true);
+        ReflectionTestUtils.setField(spotService, "gridCellSizeMeters", 300);
+        given(cacheManager.getCache("spots")).willReturn(new ConcurrentMapCache("spots"));
+        given(spotApiClient.searchNearby(any(), any())).willReturn(page());
+        given(spotApiClient.rerank(any(), any())).willReturn(List.of());
+        SpotSearchCriteria cellCriteria = SpotSearchCriteria.from(25.03301, 121.56541, 5000, false, null).snapToGrid(300);
+
+        spotService.prefetch(SpotType.RESTAURANT, cellCriteria, Instant.now().plus(Duration.ofHours(8)));
+        spotService.getSpots("restaurant", 25.03303, 121.56544, 5000, false, null);
+
+        verify(spotApiClient, times(1)).searchNearby(any(), any());
+        verify(placeCatalog).record(SpotType.RESTAURANT, cellCriteria, List.of(), true);
+    }
+
+    @Test
+    void prefetch_peakReadAfterSpotsSoftTtl_makesNoUpstreamCall() {
+        ReflectionTestUtils.setField(spotService, "gridEnabled", true);
+        ReflectionTestUtils.setField(spotService, "gridCellSizeMeters", 300);
+        Instant crawledAt = Instant.parse("2026-10-16T19:00:00Z");
+        AtomicLong now = new AtomicLong(crawledAt.toEpochMilli());
+        CacheSpecProperties.CacheSpec spec = new CacheSpecProperties.CacheSpec(
+                Duration.ofHours(22), Duration.ofMinutes(10), 0, Duration.ofMinutes(1),
+                CacheValueFormat.SMILE, null, 0, null);
+        given(cacheManager.getCache("spots")).willReturn(new StaleWhileRevalidateCache(
+                new ConcurrentMapCache("spots"), spec, Runnable::run, new SimpleMeterRegistry(), clock(now)));
+        given(spotApiClient.searchNearby(any(), any())).willReturn(page());
+        given(spotApiClient.rerank(any(), any())).willReturn(List.of());
+        SpotSearchCriteria cellCriteria = SpotSearchCriteria.from(25.033, 121.565, 5000, false, null).snapToGrid(300);
+
+        // 새벽 3시(타이베이)에 채운 셀을 저녁 피크 끝(21시)까지 신선한 값으로 둔다.
+        spotService.prefetch(SpotType.RESTAURANT, cellCriteria, crawledAt.plus(Duration.ofHours(18)));
+        now.set(crawledAt.plus(Duration.ofHours(15)).toEpochMilli());
+        spotService.getSpots("restaurant", 25.033, 121.565, 5000, false, null);
+
+        verify(spotApiClient, times(1)).searchNearby(any(), any());
+    }
+
+    @Test
+    void getSpots_whenWiderSearchIsCached_filtersItWithoutUpstream() {
+        ReflectionTestUtils.setField(spotService, "supersetEnabled", true);
+        ReflectionTestUtils.setField(spotService, "supersetMaxRadiusRatio", 3.0);
+        ConcurrentMapCache cache = new ConcurrentMapCache("spots");
+        given(cacheManager.getCache("spots")).willReturn(cache);
+        SpotResponse spot = new SpotResponse(
+                "place-1", "鼎泰豐", "restaurant", 4.6, "台北市信義區", null, 25.033, 121.565, 0.0, null);
+        SpotSearchCriteria wider = SpotSearchCriteria.from(25.033, 121.565, 5000, false, 4.0);
+        SpotSearchCriteria narrower = SpotSearchCriteria.from(25.033, 121.565, 2000, false, 4.5);
+        cache.put(key(wider), page(spot));
+        given(spotApiClient.rerank(List.of(spot), narrower)).willReturn(List.of(spot));
+
+        List<SpotResponse> result = spotService.getSpots("restaurant", 25.033, 121.565, 2000, false, 4.5);
+
+        assertThat(result).containsExactly(spot);
+        verify(spotApiClient, never()).searchNearby(any(), any());
+    }
+
+    @Test
+    void getSpots_whenWiderSearchExceedsRadiusRatio_callsUpstream() {
+        ReflectionTestUtils.setField(spotService, "supersetEnabled", true);
+        ReflectionTestUtils.setField(spotService, "supersetMaxRadiusRatio", 3.0);
+        ConcurrentMapCache cache = new ConcurrentMapCache("spots");
+        given(cacheManager.getCache("spots")).willReturn(cache);
+        cache.put(key(SpotSearchCriteria.from(25.033, 121.565, 5000, false, null)), page());
+        given(spotApiClient.searchNearby(any(), any())).willReturn(page());
+
+        spotService.getSpots("restaurant", 25.033, 121.565, 1000, false, null);
+
+        verify(spotApiClient).searchNearby(SpotType.RESTAURANT, SpotSearchCriteria.from(25.033, 121.565, 1000, false, null));
+    }
+
+    @Test
+    void getSpots_whenWiderSearchWasTruncated_callsUpstream() {
+        ReflectionTestUtils.setField(spotService, "supersetEnabled", true);
+        ReflectionTestUtils.setField(spotService, "supersetMaxRadiusRatio", 3.0);
+        ConcurrentMapCache cache = new ConcurrentMapCache("spots");
+        given(cacheManager.getCache("spots")).willReturn(cache);
+        SpotSearchCriteria wider = SpotSearchCriteria.from(25.033, 121.565, 2000, false, null);
+        SpotSearchCriteria narrower = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+        cache.put(key(wider), new SpotPage(1, List.of(spot("place-1")), false));
+        given(spotApiClient.searchNearby(SpotType.RESTAURANT, narrower)).willReturn(page());
+
+        spotService.getSpots("restaurant", 25.033, 121.565, 1000, false, null);
+
+        verify(spotApiClient).searchNearby(SpotType.RESTAURANT, narrower);
+    }
+
+    @Test
+    void getSpots_whenWiderSearchFailedWithErrorStatus_doesNotReuseItAsEmptySuperset() {
+        ReflectionTestUtils.setField(spotService, "supersetEnabled", true);
+        ReflectionTestUtils.setField(spotService, "supersetMaxRadiusRatio", 3.0);
+        ConcurrentMapCache cache = new ConcurrentMapCache("spots");
+        given(cacheManager.getCache("spots")).willReturn(cache);
+        SpotResponse spot = spot("place-1");
+        SpotSearchCriteria wider = SpotSearchCriteria.from(25.033, 121.565, 2000, false, null);
+        SpotSearchCriteria narrower = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+        given(spotApiClient.searchNearby(SpotType.RESTAURANT, wider))
+                .willThrow(new BusinessException(ErrorCode.UPSTREAM_RATE_LIMITED));
+        given(spotApiClient.searchNearby(SpotType.RESTAURANT, narrower)).willReturn(page(spot));
+
+        assertThatThrownBy(() -> spotService.getSpots("restaurant", 25.033, 121.565, 2000, false, null))
+                .isInstanceOf(BusinessException.class);
+        List<SpotResponse> result = spotService.getSpots("restaurant", 25.033, 121.565, 1000, false, null);
+
+        assertThat(result).containsExactly(spot);
+        assertThat(cache.get(key(wider))).isNull();
+        verify(placeCatalog, never()).record(eq(SpotType.RESTAURANT), eq(wider), any(), anyBoolean());
+    }
+
+    @Test
+    void getSpots_whenOnlyRatingWasWeakerInTruncatedSearch_reusesIt() {
+        ReflectionTestUtils.setField(spotService, "supersetEnabled", true);
+        ReflectionTestUtils.setField(spotService, "supersetMaxRadiusRatio", 3.0);
+        ConcurrentMapCache cache = new ConcurrentMapCache("spots");
+        given(cacheManager.getCache("spots")).willReturn(cache);
+        SpotResponse spot = spot("place-1");
+        SpotSearchCriteria weaker = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+        SpotSearchCriteria requested = SpotSearchCriteria.from(25.033, 121.565, 1000, false, 4.5);
+        cache.put(key(weaker), new SpotPage(1, List.of(spot), false));
+        given(spotApiClient.rerank(List.of(spot), requested)).willReturn(List.of(spot));
+
+        List<SpotResponse> result = spotService.getSpots("restaurant", 25.033, 121.565, 1000, false, 4.5);
+
+        assertThat(result).containsExactly(spot);
+        verify(spotApiClient, never()).searchNearby(any(), any());
+    }
+
+    @Test
+    void getSpots_whenGridEnabledAndLargerBucketIsCached_reusesSameCellSearch() {
+        ReflectionTestUtils.setField(spotService, "gridEnabled", true);
+        ReflectionTestUtils.setField(spotService, "gridCellSizeMeters", 300);
+        ReflectionTestUtils.setField(spotService, "supersetEnabled", true);
+        ReflectionTestUtils.setField(spotService, "supersetMaxRadiusRatio", 3.0);
+        ConcurrentMapCache cache = new ConcurrentMapCache("spots");
+        given(cacheManager.getCache("spots")).willReturn(cache);
+        given(spotApiClient.rerank(any(), any())).willReturn(List.of());
+        SpotSearchCriteria widerCell = SpotSearchCriteria.from(25.03301, 121.56541, 5000, false, null).snapToGrid(300);
+        cache.put(key(widerCell), page());
+
+        spotService.getSpots("restaurant", 25.03303, 121.56544, 2000, false, null);
+
+        verify(spotApiClient, never()).searchNearby(any(), any());
+    }
+
+    @Test
+    void getSpots_whenOpenNowAndHoursKnown_filtersLocallyWithoutOpenNowSearch() {
+        ReflectionTestUtils.setField(spotService, "localHoursEnabled", true);
+        SpotResponse open = spot("place-1");
+        SpotResponse closed = spot("place-2");
+        given(placeCatalog.knowsHoursAround(eq(SpotType.RESTAURANT), any(), anyInt(), anyDouble())).willReturn(true);
+        SpotSearchCriteria anyHours = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+        given(spotApiClient.searchNearby(SpotType.RESTAURANT, anyHours)).willReturn(page(open, closed));
+        given(placeCatalog.openingHours("place-1")).willReturn(Optional.of(OpeningHours.alwaysOpen()));
+        given(placeCatalog.openingHours("place-2")).willReturn(Optional.of(OpeningHours.none()));
+
+        List<SpotResponse> result = spotService.getSpots("restaurant", 25.033, 121.565, 1000, true, null);
+
+        assertThat(result).containsExactly(open);
+        verify(spotApiClient, times(1)).searchNearby(any(), any());
+    }
+
+    @Test
+    void getSpots_whenOpenNowAndTooFewKnownOpen_fallsBackToOpenNowSearch() {
+        ReflectionTestUtils.setField(spotService, "localHoursEnabled", true);
+        ReflectionTestUtils.setField(spotService, "localHoursMinResults", 1);
+        given(placeCatalog.knowsHoursAround(eq(SpotType.RESTAURANT), any(), anyInt(), anyDouble())).willReturn(true);
+        SpotSearchCriteria anyHours = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+        SpotSearchCriteria openNow = SpotSearchCriteria.from(25.033, 121.565, 1000, true, null);
+        given(spotApiClient.searchNearby(SpotType.RESTAURANT, anyHours)).willReturn(page(spot("place-1")));
+        given(spotApiClient.searchNearby(SpotType.RESTAURANT, openNow)).willReturn(page());
+
+        List<SpotResponse> result = spotService.getSpots("restaurant", 25.033, 121.565, 1000, true, null);
+
+        assertThat(result).isEmpty();
+        verify(spotApiClient).searchNearby(SpotType.RESTAURANT, openNow);
+    }
+
+    @Test
+    void getSpots_whenOpenNowAndEnoughKnownOpen_dropsUnknownWithoutOpenNowSearch() {
+        ReflectionTestUtils.setField(spotService, "localHoursEnabled", true);
+        ReflectionTestUtils.setField(spotService, "localHoursMinResults", 1);
+        SpotResponse open = spot("place-1");
+        given(placeCatalog.knowsHoursAround(eq(SpotType.RESTAURANT), any(), anyInt(), anyDouble())).willReturn(true);
+        SpotSearchCriteria anyHours = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+        given(spotApiClient.searchNearby(SpotType.RESTAURANT, anyHours)).willReturn(page(open, spot("place-2")));
+        given(placeCatalog.openingHours("place-1")).willReturn(Optional.of(OpeningHours.alwaysOpen()));
+        given(placeCatalog.openingHours("place-2")).willReturn(Optional.empty());
+
+        List<SpotResponse> result = spotService.getSpots("restaurant", 25.033, 121.565, 1000, true, null);
+
+        assertThat(result).containsExactly(open);
+        verify(spotApiClient, times(1)).searchNearby(any(), any());
+    }
+
+    @Test
+    void getSpots_whenOpenNowAndCatalogKnowsFewHours_searchesOpenNowDirectly() {
+        ReflectionTestUtils.setField(spotService, "localHoursEnabled", true);
+        given(placeCatalog.knowsHoursAround(eq(SpotType.RESTAURANT), any(), anyInt(), anyDouble())).willReturn(false);
+        SpotSearchCriteria openNow = SpotSearchCriteria.from(25.033, 121.565, 1000, true, null);
+        given(spotApiClient.searchNearby(SpotType.RESTAURANT, openNow)).willReturn(page(spot("place-1")));
+
+        List<SpotResponse> result = spotService.getSpots("restaurant", 25.033, 121.565, 1000, true, null);
+
+        assertThat(result).extracting(SpotResponse::id).containsExactly("place-1");
+        verify(spotApiClient, times(1)).searchNearby(any(), any());
+    }
+
+    @Test
+    void getSpots_whenOpenAtGiven_returnsUnknownHoursAfterKnownOpen() {
+        SpotResponse known = spot("place-1");
+        SpotSearchCriteria anyHours = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+        given(spotApiClient.searchNearby(SpotType.RESTAURANT, anyHours))
+                .willReturn(page(spot("place-2"), known, spot("place-3")));
+        given(placeCatalog.openingHours("place-1")).willReturn(Optional.of(OpeningHours.alwaysOpen()));
+        given(placeCatalog.openingHours("place-2")).willReturn(Optional.empty());
+        given(placeCatalog.openingHours("place-3")).willReturn(Optional.of(OpeningHours.none()));
+
+        List<SpotResponse> result = spotService.getSpots(
+                "restaurant", 25.033, 121.565, 1000, false, null, LocalTime.of(21, 0));
+
+        assertThat(result).extracting(SpotResponse::id).containsExactly("place-1", "place-2");
+        assertThat(result.get(1).reason()).isEqualTo("영업시간 정보가 없어 방문 전 확인이 필요해요.");
+        verify(spotApiClient, times(1)).searchNearby(any(), any());
+    }
+
+    @Test
+    void streamSpots_whenNotCached_emitsPagesAsTheyArriveWithoutDuplicates() {
+        given(cacheManager.getCache("spots")).willReturn(new ConcurrentMapCache("spots"));
+        SpotSearchCriteria criteria = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+        given(spotApiClient.searchNearbyPagesAsync(SpotType.RESTAURANT, criteria, 3)).willReturn(Flux.just(
+                new SpotPage(1, List.of(spot("place-1")), false),
+                new SpotPage(2, List.of(spot("place-1"), spot("place-2")), true)));
+
+        List<SpotPageResponse> pages = spotService.streamSpots("restaurant", 25.033, 121.565, 1000, false, null, 3)
+                .collectList()
+                .block();
+
+        assertThat(pages).extracting(SpotPageResponse::page).containsExactly(1, 2);
+        assertThat(pages.get(1).spots()).extracting(SpotResponse::id).containsExactly("place-2");
+    }
+
+    @Test
+    void streamSpots_whenAllPagesCached_servesThemWithoutUpstream() {
+        ConcurrentMapCache cache = new ConcurrentMapCache("spots");
+        given(cacheManager.getCache("spots")).willReturn(cache);
+        String key = key(SpotSearchCriteria.from(25.033, 121.565, 1000, false, null));
+        cache.put(key, new SpotPage(1, List.of(spot("place-1")), false));
+        cache.put(key + ":page2", new SpotPage(2, List.of(spot("place-2")), true));
+        cache.put(key + ":page3", new SpotPage(3, List.of(), true));
+
+        List<SpotPageResponse> pages = spotService.streamSpots("restaurant", 25.033, 121.565, 1000, false, null, 3)
+                .collectList()
+                .block();
+
+        assertThat(pages).hasSize(2);
+        verify(spotApiClient, never()).searchNearbyPagesAsync(any(), any(), anyInt());
+    }
+
+    @Test
+    void streamSpots_whenConcurrentRequestsMissCache_fetchesPagesOnce() {
+        given(cacheManager.getCache("spots")).willReturn(new ConcurrentMapCache("spots"));
+        SpotSearchCriteria criteria = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+        given(spotApiClient.searchNearbyPagesAsync(SpotType.RESTAURANT, criteria, 3)).willReturn(Flux.just(
+                        new SpotPage(1, List.of(spot("place-1")), false),
+                        new SpotPage(2, List.of(spot("place-2")), true))
+                .delaySubscription(Duration.ofMillis(100)));
+
+        List<SpotPageResponse> pages = Flux.merge(
+                        spotService.streamSpots("restaurant", 25.033, 121.565, 1000, false, null, 3),
+                        spotService.streamSpots("restaurant", 25.033, 121.565, 1000, false, null, 3))
+                .collectList()
+                .block();
+
+        assertThat(pages).hasSize(4);
+        verify(spotApiClient, times(1)).searchNearbyPagesAsync(any(), any(), anyInt());
+    }
+
     @Test
     void getSpotDetail_whenFound_returnsSpotDetail() {
         SpotDetailResponse detail = new SpotDetailResponse(
@@ -77,7 +428,8 @@ class SpotServiceTest {
                 "+886-2-2321-8928", "https://www.dintaifung.com.tw",
                 List.of("월요일: 오전 11:00 – 오후 9:30"), List.of(), 25.033, 121.565
         );
-        given(spotApiClient.getDetails(eq("place-1"), eq("restaurant"))).willReturn(detail);
+        given(spotApiClient.getDetails(eq("place-1"), eq("restaurant")))
+                .willReturn(new SpotDetails(detail, OpeningHours.none()));
 
         SpotDetailResponse result = spotService.getSpotDetail("place-1", "restaurant");
 
@@ -94,4 +446,35 @@ class SpotServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessage(ErrorCode.SPOT_NOT_FOUND.getMessage());
     }
+
+    private static Clock clock(AtomicLong millis) {
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+    }
+
+    private SpotPage page(SpotResponse... spots) {
+        return new SpotPage(1, List.of(spots), true);
+    }
+
+    private String key(SpotSearchCriteria criteria) {
+        return "RESTAURANT:v2:" + criteria.cacheKey();
+    }
+
+    private SpotResponse spot(String placeId) {
+        return new SpotResponse(placeId, "鼎泰豐", "restaurant", 4.5, "台北市信義區", null, 25.033, 121.565, 0.0, null);
+    }
 }
@@ -0,0 +1,55 @@
+package com.travel.taipei.spot.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpeningHoursTest {
+
+    private static final ZoneId TAIPEI = ZoneId.of("Asia/Taipei");
+
+    @Test
+    void isOpenAt_whenPeriodCrossesMidnight_coversNextMorning() {
+        // 금요일 18:00 ~ 토요일 02:00
+        OpeningHours hours = OpeningHours.weekly(List.of(new OpeningHours.Interval(
+                OpeningHours.minuteOfWeek(5, "1800"), OpeningHours.minuteOfWeek(6, "0200"))));
+
+        assertThat(hours.isOpenAt(taipei(2026, 10, 16, 21, 0))).isTrue();
+        assertThat(hours.isOpenAt(taipei(2026, 10, 17, 1, 59))).isTrue();
+        assertThat(hours.isOpenAt(taipei(2026, 10, 17, 2, 0))).isFalse();
+        assertThat(hours.isOpenAt(taipei(2026, 10, 16, 17, 59))).isFalse();
+    }
+
+    @Test
+    void weekly_whenPeriodWrapsSaturdayToSunday_splitsAtWeekBoundary() {
+        // 토요일 22:00 ~ 일요일 03:00
+        OpeningHours hours = OpeningHours.weekly(List.of(new OpeningHours.Interval(
+                OpeningHours.minuteOfWeek(6, "2200"), OpeningHours.minuteOfWeek(0, "0300"))));
+
+        assertThat(hours.intervals()).hasSize(2);
+        assertThat(hours.isOpenAt(taipei(2026, 10, 17, 23, 0))).isTrue();
+        assertThat(hours.isOpenAt(taipei(2026, 10, 18, 2, 30))).isTrue();
+        assertThat(hours.isOpenAt(taipei(2026, 10, 18, 3, 0))).isFalse();
+    }
+
+    @Test
+    void decode_whenEncoded_roundTrips() {
+        OpeningHours hours = OpeningHours.weekly(List.of(
+                new OpeningHours.Interval(OpeningHours.minuteOfWeek(1, "1100"), OpeningHours.minuteOfWeek(1, "2130")),
+                new OpeningHours.Interval(OpeningHours.minuteOfWeek(2, "1100"), OpeningHours.minuteOfWeek(2, "2130"))));
+
+        assertThat(OpeningHours.decode(hours.encode())).isEqualTo(hours);
+        assertThat(OpeningHours.decode("")).isEqualTo(OpeningHours.none());
+        assertThat(OpeningHours.none().isOpenAt(taipei(2026, 10, 16, 12, 0))).isFalse();
+        assertThat(OpeningHours.alwaysOpen().isOpenAt(taipei(2026, 10, 18, 0, 0))).isTrue();
+    }
+
+    private static Instant taipei(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).atZone(TAIPEI).toInstant();
+    }
+}
@@ -0,0 +1,203 @@
+package com.travel.taipei.spot.infrastructure;
+
+import com.travel.taipei.global.client.OutboundCallScheduler;
+import com.travel.taipei.global.client.RequestHedger;
+import com.travel.taipei.global.client.RetryBudget;
+import com.travel.taipei.global.client.UpstreamClient;
+import com.travel.taipei.global.client.UpstreamRateLimiter;
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.spot.domain.SpotDetails;
+import com.travel.taipei.spot.domain.SpotPage;
+import com.travel.taipei.spot.domain.SpotSearchCriteria;
+import com.travel.taipei.spot.domain.SpotType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpotApiClientTest {
+
+    private static final SpotSearchCriteria CRITERIA = SpotSearchCriteria.from(25.033, 121.565, 1000, false, null);
+
+    private final Deque<String> responses = new ArrayDeque<>();
+    private final List<Long> requestedAt = new ArrayList<>();
+    private final List<String> requestedUris = new ArrayList<>();
+    private SpotApiClient spotApiClient;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requestedAt.add(System.nanoTime());
+                    requestedUris.add(request.url().toString());
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(responses.poll())
+                            .build());
+                })
+                .build();
+        UpstreamClient upstreamClient = new UpstreamClient(
+                meterRegistry, UpstreamRateLimiter.disabled(meterRegistry), OutboundCallScheduler.unbounded(meterRegistry),
+                RequestHedger.disabled(meterRegistry), RetryBudget.disabled(meterRegistry));
+        spotApiClient = new SpotApiClient(webClient, upstreamClient);
+        ReflectionTestUtils.setField(spotApiClient, "apiKey", "test-key");
+        ReflectionTestUtils.setField(spotApiClient, "placesUrl", "https://example.com/places");
+    }
+
+    @Test
+    void searchNearbyPagesAsync_waitsForPageTokenAndRetriesWhileItIsNotReady() {
+        responses.add(page("place-1", "token-1"));
+        responses.add("{\"status\":\"INVALID_REQUEST\",\"results\":[]}");
+        responses.add(page("place-2", null));
+
+        List<SpotPage> pages = spotApiClient.searchNearbyPagesAsync(SpotType.RESTAURANT, CRITERIA, 3)
+                .collectList()
+                .block();
+
+        assertThat(pages).extracting(SpotPage::number).containsExactly(1, 2);
+        assertThat(pages).extracting(SpotPage::last).containsExactly(false, true);
+        assertThat(requestedUris.get(1)).contains("pagetoken=token-1");
+        assertThat(requestedUris.get(2)).contains("pagetoken=token-1");
+        assertThat(millisBetween(0, 1)).isGreaterThanOrEqualTo(2000);
+        assertThat(millisBetween(1, 2)).isGreaterThanOrEqualTo(1000);
+    }
+
+    @Test
+    void searchNearbyPagesAsync_whenPageTokenNeverActivates_endsWithPagesReceived() {
+        responses.add(page("place-1", "token-1"));
+        responses.add("{\"status\":\"INVALID_REQUEST\",\"results\":[]}");
+        responses.add("{\"status\":\"INVALID_REQUEST\",\"results\":[]}");
+        responses.add("{\"status\":\"INVALID_REQUEST\",\"results\":[]}");
+
+        List<SpotPage> pages = spotApiClient.searchNearbyPagesAsync(SpotType.RESTAURANT, CRITERIA, 3)
+                .collectList()
+                .block();
+
+        assertThat(pages).extracting(SpotPage::number).containsExactly(1);
+        assertThat(requestedAt).hasSize(4);
+    }
+
+    @Test
+    void searchNearby_whenQuotaExceeded_failsInsteadOfReturningEmptyLastPage() {
+        responses.add("{\"status\":\"OVER_QUERY_LIMIT\",\"results\":[]}");
+
+        assertThatThrownBy(() -> spotApiClient.searchNearby(SpotType.RESTAURANT, CRITERIA))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.UPSTREAM_RATE_LIMITED);
+    }
+
+    @Test
+    void searchNearby_whenRequestDenied_failsWithExternalApiError() {
+        responses.add("{\"status\":\"REQUEST_DENIED\",\"results\":[]}");
+
+        assertThatThrownBy(() -> spotApiClient.searchNearby(SpotType.RESTAURANT, CRITERIA))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EXTERNAL_API_ERROR);
+    }
+
+    @Test
+    void searchNearby_whenZeroResults_returnsEmptyLastPage() {
+        responses.add("{\"status\":\"ZERO_RESULTS\",\"results\":[]}");
+
+        SpotPage page = spotApiClient.searchNearby(SpotType.RESTAURANT, CRITERIA);
+
+        assertThat(page.spots()).isEmpty();
+        assertThat(page.last()).isTrue();
+    }
+
+    @Test
+    void searchNearbyPagesAsync_whenSixtyResultsReturned_doesNotMarkLastPage() {
+        responses.add(fullPage(1, "token-1"));
+        responses.add(fullPage(2, "token-2"));
+        responses.add(fullPage(3, null));
+
+        List<SpotPage> pages = spotApiClient.searchNearbyPagesAsync(SpotType.RESTAURANT, CRITERIA, 3)
+                .collectList()
+                .block();
+
+        assertThat(pages).extracting(SpotPage::number).containsExactly(1, 2, 3);
+        assertThat(pages).extracting(SpotPage::last).containsOnly(false);
+    }
+
+    @Test
+    void getOpeningHours_whenQuotaExceeded_failsInsteadOfReportingUnknownHours() {
+        responses.add("{\"status\":\"OVER_QUERY_LIMIT\"}");
+
+        assertThatThrownBy(() -> spotApiClient.getOpeningHours("place-1"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.UPSTREAM_RATE_LIMITED);
+    }
+
+    @Test
+    void getOpeningHours_whenPlaceNotFound_returnsEmpty() {
+        responses.add("{\"status\":\"NOT_FOUND\"}");
+
+        assertThat(spotApiClient.getOpeningHours("place-1")).isEmpty();
+    }
+
+    @Test
+    void getOpeningHours_whenPlaceHasNoPublishedHours_returnsEmpty() {
+        responses.add("{\"status\":\"OK\",\"result\":{\"place_id\":\"place-1\"}}");
+
+        assertThat(spotApiClient.getOpeningHours("place-1")).isEmpty();
+    }
+
+    @Test
+    void getDetails_whenPlaceHasNoPublishedHours_leavesOpeningHoursUnknown() {
+        responses.add("{\"status\":\"OK\",\"result\":{\"place_id\":\"place-1\",\"name\":\"象山\","
+                + "\"geometry\":{\"location\":{\"lat\":25.027,\"lng\":121.576}}}}");
+
+        SpotDetails details = spotApiClient.getDetails("place-1", "attraction");
+
+        assertThat(details.response().id()).isEqualTo("place-1");
+        assertThat(details.openingHours()).isNull();
+    }
+
+    @Test
+    void photoReference_keepsReferenceWithoutApiKey() {
+        String reference = SpotApiClient.photoReference(spotApiClient.photoUrl("ref-1"));
+
+        assertThat(reference).isEqualTo("ref-1");
+        assertThat(spotApiClient.photoUrl(reference)).contains("key=test-key");
+    }
+
+    private long millisBetween(int from, int to) {
+        return (requestedAt.get(to) - requestedAt.get(from)) / 1_000_000;
+    }
+
+    private String fullPage(int number, String nextPageToken) {
+        String token = nextPageToken != null ? ",\"next_page_token\":\"" + nextPageToken + "\"" : "";
+        String results = IntStream.range(0, 20)
+                .mapToObj(i -> "{\"place_id\":\"place-" + number + "-" + i + "\",\"name\":\"鼎泰豐\","
+                        + "\"geometry\":{\"location\":{\"lat\":25.033,\"lng\":121.565}}}")
+                .collect(Collectors.joining(","));
+        return "{\"status\":\"OK\",\"results\":[" + results + "]" + token + "}";
+    }
+
+    private String page(String placeId, String nextPageToken) {
+        String token = nextPageToken != null ? ",\"next_page_token\":\"" + nextPageToken + "\"" : "";
+        return "{\"status\":\"OK\",\"results\":[{\"place_id\":\"" + placeId + "\",\"name\":\"鼎泰豐\",\"rating\":4.5,"
+                + "\"geometry\":{\"location\":{\"lat\":25.033,\"lng\":121.565}}}]" + token + "}";
+    }
+}
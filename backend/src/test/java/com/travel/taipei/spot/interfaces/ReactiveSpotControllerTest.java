@@ -0,0 +1,76 @@
+package com.travel.taipei.spot.interfaces;
+
+import com.travel.taipei.spot.application.SpotService;
+import com.travel.taipei.spot.interfaces.dto.SpotPageResponse;
+import com.travel.taipei.spot.interfaces.dto.SpotResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ReactiveSpotController.class, properties = "serving.mode=reactive")
+class ReactiveSpotControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SpotService spotService;
+
+    @Test
+    void streamSpots_whenNdjsonAccepted_writesOnePageObjectPerLine() throws Exception {
+        given(spotService.streamSpots("restaurant", 25.033, 121.565, 1000, false, null, 3)).willReturn(Flux.just(
+                new SpotPageResponse(1, List.of(spot("place-1"))),
+                new SpotPageResponse(2, List.of(spot("place-2")))));
+
+        MvcResult result = mockMvc.perform(get("/api/spots/stream")
+                        .param("type", "restaurant")
+                        .param("lat", "25.033")
+                        .param("lng", "121.565")
+                        .param("radius", "1000")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("{\"page\":1,\"spots\":[{\"id\":\"place-1\"")))
+                .andExpect(content().string(containsString("\n{\"page\":2,\"spots\":[{\"id\":\"place-2\"")));
+    }
+
+    @Test
+    void streamSpots_whenEventStreamAccepted_writesOneEventPerPage() throws Exception {
+        given(spotService.streamSpots("cafe", null, null, 5000, false, null, 3)).willReturn(Flux.just(
+                new SpotPageResponse(1, List.of(spot("place-1")))));
+
+        MvcResult result = mockMvc.perform(get("/api/spots/stream")
+                        .param("type", "cafe")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(containsString("data:{\"page\":1,\"spots\":[{\"id\":\"place-1\"")));
+    }
+
+    private SpotResponse spot(String placeId) {
+        return new SpotResponse(placeId, "鼎泰豐", "restaurant", 4.5, "台北市信義區", null, 25.033, 121.565, 0.3, null);
+    }
+}
@@ -4,20 +4,29 @@ import com.travel.taipei.global.exception.BusinessException;
 import com.travel.taipei.global.exception.ErrorCode;
 import com.travel.taipei.spot.application.SpotService;
 import com.travel.taipei.spot.interfaces.dto.SpotDetailResponse;
+import com.travel.taipei.spot.interfaces.dto.SpotPageResponse;
 import com.travel.taipei.spot.interfaces.dto.SpotResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
 
+import java.time.LocalTime;
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(SpotController.class)
@@ -31,7 +40,7 @@ class SpotControllerTest {
 
     @Test
     void getSpots_whenSuccess_returnsOk() throws Exception {
-        given(spotService.getSpots("restaurant", null, null, 5000, false, null)).willReturn(
+        given(spotService.getSpots("restaurant", null, null, 5000, false, null, null)).willReturn(
                 List.of(new SpotResponse(
                         "place-1",
                         "鼎泰豐",
@@ -57,7 +66,7 @@ class SpotControllerTest {
 
     @Test
     void getSpots_whenTypeIsInvalid_returnsBadRequest() throws Exception {
-        given(spotService.getSpots("unknown", null, null, 5000, false, null))
+        given(spotService.getSpots("unknown", null, null, 5000, false, null, null))
                 .willThrow(new BusinessException(ErrorCode.INVALID_SPOT_TYPE));
 
         mockMvc.perform(get("/api/spots").param("type", "unknown"))
@@ -68,7 +77,7 @@ class SpotControllerTest {
 
     @Test
     void getSpots_whenSearchParamsGiven_passesParamsToService() throws Exception {
-        given(spotService.getSpots("cafe", 25.05, 121.56, 2500, true, 4.2)).willReturn(List.of());
+        given(spotService.getSpots("cafe", 25.05, 121.56, 2500, true, 4.2, null)).willReturn(List.of());
 
         mockMvc.perform(get("/api/spots")
                         .param("type", "cafe")
@@ -81,6 +90,64 @@ class SpotControllerTest {
                 .andExpect(jsonPath("$.success").value(true));
     }
 
+    @Test
+    void getSpots_whenOpenAtGiven_parsesLocalTime() throws Exception {
+        given(spotService.getSpots("restaurant", null, null, 5000, false, null, LocalTime.of(21, 0))).willReturn(List.of());
+
+        mockMvc.perform(get("/api/spots")
+                        .param("type", "restaurant")
+                        .param("openAt", "21:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+    }
+
+    @Test
+    void getSpots_whenOpenAtIsMalformed_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/spots").param("type", "cafe").param("openAt", "25:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value(ErrorCode.INVALID_INPUT.getMessage()));
+    }
+
+    @Test
+    void streamSpots_whenNdjsonAccepted_writesOnePageObjectPerLine() throws Exception {
+        given(spotService.streamSpots("restaurant", null, null, 5000, false, null, 3)).willReturn(Flux.just(
+                new SpotPageResponse(1, List.of(spot("place-1"))),
+                new SpotPageResponse(2, List.of(spot("place-2")))));
+
+        MvcResult result = mockMvc.perform(get("/api/spots/stream")
+                        .param("type", "restaurant")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("{\"page\":1,\"spots\":[{\"id\":\"place-1\"")))
+                .andExpect(content().string(containsString("\n{\"page\":2,\"spots\":[{\"id\":\"place-2\"")));
+    }
+
+    @Test
+    void streamSpots_whenEventStreamAccepted_writesOneEventPerPage() throws Exception {
+        given(spotService.streamSpots("cafe", null, null, 5000, false, null, 2)).willReturn(Flux.just(
+                new SpotPageResponse(1, List.of(spot("place-1"))),
+                new SpotPageResponse(2, List.of())));
+
+        MvcResult result = mockMvc.perform(get("/api/spots/stream")
+                        .param("type", "cafe")
+                        .param("pages", "2")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(containsString("data:{\"page\":1,\"spots\":[{\"id\":\"place-1\"")))
+                .andExpect(content().string(containsString("data:{\"page\":2,\"spots\":[]}\n\n")));
+    }
+
     @Test
     void getSpotDetail_whenSuccess_returnsOk() throws Exception {
         given(spotService.getSpotDetail(eq("place-1"), anyString())).willReturn(
@@ -104,4 +171,8 @@ class SpotControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.success").value(false));
     }
+
+    private SpotResponse spot(String placeId) {
+        return new SpotResponse(placeId, "鼎泰豐", "restaurant", 4.5, "台北市信義區", null, 25.033, 121.565, 0.3, null);
+    }
 }
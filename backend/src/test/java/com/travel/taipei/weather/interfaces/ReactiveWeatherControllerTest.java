@@ -0,0 +1,61 @@
+package com.travel.taipei.weather.interfaces;
+
+import com.travel.taipei.global.exception.BusinessException;
+import com.travel.taipei.global.exception.ErrorCode;
+import com.travel.taipei.weather.application.WeatherService;
+import com.travel.taipei.weather.interfaces.dto.WeatherResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ReactiveWeatherController.class, properties = "serving.mode=reactive")
+class ReactiveWeatherControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private WeatherService weatherService;
+
+    @Test
+    void getWeather_whenSuccess_returnsOk() throws Exception {
+        given(weatherService.getWeatherAsync()).willReturn(Mono.just(
+                new WeatherResponse("Taipei", 22.5, 23.1, 70, "맑음",
+                        "https://openweathermap.org/img/wn/01d@2x.png", 3.5)
+        ));
+
+        MvcResult result = mockMvc.perform(get("/api/weather"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.city").value("Taipei"));
+    }
+
+    @Test
+    void getWeather_whenExternalApiError_returnsBadGateway() throws Exception {
+        given(weatherService.getWeatherAsync())
+                .willReturn(Mono.error(new BusinessException(ErrorCode.EXTERNAL_API_ERROR)));
+
+        MvcResult result = mockMvc.perform(get("/api/weather"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadGateway())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
@@ -69,6 +69,14 @@ type WeatherForecastItem = {
   iconUrl: string;
 };
 
+type DashboardResponse = {
+  weather: ApiEnvelope<WeatherResponse>;
+  forecast: ApiEnvelope<WeatherForecastItem[]>;
+  exchangeRate: ApiEnvelope<ExchangeRateResponse>;
+  spots: ApiEnvelope<SpotResponse[]>;
+  phrases: ApiEnvelope<PhraseResponse[]>;
+};
+
 type TranslationResult = {
   sourceText: string;
   translatedText: string;
@@ -548,9 +556,7 @@ export default function Home() {
   const quickTranslateSamples = QUICK_TRANSLATE_SAMPLES[translateDirection];
 
   useEffect(() => {
-    void loadSummary();
-    void searchSpots(INITIAL_FILTERS);
-    void loadPhrases("airport");
+    void loadDashboard();
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, []);
 
@@ -802,6 +808,60 @@ export default function Home() {
 
   // ── API 호출 ──────────────────────────────────────────────────────────
 
+  // 첫 화면은 /dashboard 한 번으로 받고, 실패한 섹션만 개별 API로 다시 불러온다.
+  async function loadDashboard() {
+    const params = new URLSearchParams({
+      type: INITIAL_FILTERS.type,
+      radius: INITIAL_FILTERS.radius || "5000",
+      openNow: String(INITIAL_FILTERS.openNow),
+      phraseCategory: "airport",
+    });
+    if (INITIAL_FILTERS.minRating.trim()) {
+      params.set("minRating", INITIAL_FILTERS.minRating.trim());
+    }
+
+    setLoadingSummary(true);
+    setLoadingSpots(true);
+    setLoadingPhrases(true);
+    let dashboard: DashboardResponse;
+    try {
+      dashboard = await requestApi<DashboardResponse>(`/api/travel/dashboard?${params.toString()}`);
+    } catch {
+      void loadSummary();
+      void searchSpots(INITIAL_FILTERS);
+      void loadPhrases("airport");
+      return;
+    }
+
+    const { weather: weatherSection, forecast: forecastSection, exchangeRate: exchangeSection } = dashboard;
+    if (weatherSection.success && forecastSection.success && exchangeSection.success) {
+      setWeather(weatherSection.data);
+      setForecast(forecastSection.data);
+      setExchange(exchangeSection.data);
+      setSummaryError(null);
+      setLoadingSummary(false);
+    } else {
+      void loadSummary();
+    }
+
+    if (dashboard.spots.success) {
+      setSpots(dashboard.spots.data);
+      writeStorage(makeSpotsCacheKey(INITIAL_FILTERS, null), dashboard.spots.data);
+      setSpotError(null);
+      setLoadingSpots(false);
+    } else {
+      void searchSpots(INITIAL_FILTERS);
+    }
+
+    if (dashboard.phrases.success) {
+      setPhrases(dashboard.phrases.data);
+      writeStorage(`${STORAGE_KEYS.phrasesPrefix}airport`, dashboard.phrases.data);
+      setLoadingPhrases(false);
+    } else {
+      void loadPhrases("airport");
+    }
+  }
+
   async function loadSummary() {
     setLoadingSummary(true);
     setSummaryError(null);